@@ -0,0 +1,386 @@
+package com.coderodde;
+
+import java.util.Objects;
+
+/**
+ * The base of the doubly-linked lists of primitive {@code int} values with a
+ * finger index for positional access. The nodes are not objects but numbered
+ * slots of a storage supplied by the subclasses, each slot holding a value
+ * and the slot numbers of its predecessor and successor; removed slots are
+ * recycled through a free list chained via the successor links.
+ * <p>
+ * The finger index keeps about {@code sqrt(size)} nodes with known positions,
+ * sorted by position. A positional access walks from the closest of the head,
+ * the tail and the fingers. Structural modifications shift the positions of
+ * the fingers behind the modified position, so every finger stays valid; the
+ * fingers are redistributed evenly once more than {@code sqrt(size)}
+ * modifications have accumulated since the previous redistribution, which
+ * keeps both the access and the amortized modification cost at
+ * {@code O(sqrt(size))}.
+ */
+public abstract class AbstractIntIndexedLinkedList implements IntList {
+
+    /**
+     * The slot number denoting no node.
+     */
+    protected static final int NIL = -1;
+
+    private int head = NIL;
+    private int tail = NIL;
+    private int size;
+
+    /**
+     * The number of node slots ever handed out since the last clear.
+     */
+    private int allocatedNodes;
+
+    /**
+     * The first node slot of the free list.
+     */
+    private int firstFreeNode = NIL;
+
+    private int[] fingerNodes   = new int[0];
+    private int[] fingerIndices = new int[0];
+    private int fingerCount;
+
+    /**
+     * The number of structural modifications since the last redistribution
+     * of the fingers.
+     */
+    private int modifications;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addInt(int value) {
+        linkLast(allocateNode(value));
+        ++modifications;
+    }
+
+    @Override
+    public void addInt(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+
+        if (index == size) {
+            addInt(value);
+            return;
+        }
+
+        int successor = node(index);
+        linkBefore(allocateNode(value), successor);
+
+        for (int i = firstFingerAtOrAfter(index); i < fingerCount; ++i) {
+            ++fingerIndices[i];
+        }
+
+        ++modifications;
+    }
+
+    @Override
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return getValue(node(index));
+    }
+
+    @Override
+    public int setInt(int index, int value) {
+        Objects.checkIndex(index, size);
+        int node = node(index);
+        int oldValue = getValue(node);
+        setValue(node, value);
+        return oldValue;
+    }
+
+    @Override
+    public int removeAtInt(int index) {
+        Objects.checkIndex(index, size);
+        int node = node(index);
+        int value = getValue(node);
+        removeNode(node, index);
+        return value;
+    }
+
+    @Override
+    public boolean removeInt(int value) {
+        int index = 0;
+
+        for (int node = head; node != NIL; node = getNext(node), ++index) {
+            if (getValue(node) == value) {
+                removeNode(node, index);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        allocatedNodes = 0;
+        firstFreeNode = NIL;
+        fingerCount = 0;
+        modifications = 0;
+    }
+
+    /**
+     * Returns the value stored in the slot {@code node}.
+     *
+     * @param node the slot number.
+     * @return the value of the slot.
+     */
+    protected abstract int getValue(int node);
+
+    /**
+     * Stores {@code value} in the slot {@code node}.
+     *
+     * @param node  the slot number.
+     * @param value the value to store.
+     */
+    protected abstract void setValue(int node, int value);
+
+    /**
+     * Returns the successor link of the slot {@code node}.
+     *
+     * @param node the slot number.
+     * @return the slot number of the successor, or {@link #NIL}.
+     */
+    protected abstract int getNext(int node);
+
+    /**
+     * Sets the successor link of the slot {@code node}.
+     *
+     * @param node the slot number.
+     * @param next the slot number of the successor, or {@link #NIL}.
+     */
+    protected abstract void setNext(int node, int next);
+
+    /**
+     * Returns the predecessor link of the slot {@code node}.
+     *
+     * @param node the slot number.
+     * @return the slot number of the predecessor, or {@link #NIL}.
+     */
+    protected abstract int getPrev(int node);
+
+    /**
+     * Sets the predecessor link of the slot {@code node}.
+     *
+     * @param node the slot number.
+     * @param prev the slot number of the predecessor, or {@link #NIL}.
+     */
+    protected abstract void setPrev(int node, int prev);
+
+    /**
+     * Returns the number of slots the storage currently holds.
+     *
+     * @return the storage capacity in slots.
+     */
+    protected abstract int getCapacity();
+
+    /**
+     * Grows the storage to hold at least {@code capacity} slots, preserving
+     * the contents of the existing slots.
+     *
+     * @param capacity the minimum number of slots.
+     */
+    protected abstract void grow(int capacity);
+
+    private void removeNode(int node, int index) {
+        for (int i = firstFingerAtOrAfter(index); i < fingerCount; ++i) {
+            if (fingerNodes[i] != node) {
+                --fingerIndices[i];
+            } else if (getNext(node) != NIL) {
+                // The successor inherits both the finger and the position:
+                fingerNodes[i] = getNext(node);
+            } else {
+                fingerNodes[i] = getPrev(node);
+                fingerIndices[i] = index - 1;
+            }
+        }
+
+        unlink(node);
+        releaseNode(node);
+
+        if (size == 0) {
+            fingerCount = 0;
+        }
+
+        ++modifications;
+    }
+
+    private int allocateNode(int value) {
+        int node;
+
+        if (firstFreeNode != NIL) {
+            node = firstFreeNode;
+            firstFreeNode = getNext(node);
+        } else {
+            if (allocatedNodes == getCapacity()) {
+                grow(getCapacity() << 1);
+            }
+
+            node = allocatedNodes++;
+        }
+
+        setValue(node, value);
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        setNext(node, firstFreeNode);
+        firstFreeNode = node;
+    }
+
+    private void linkLast(int node) {
+        setPrev(node, tail);
+        setNext(node, NIL);
+
+        if (tail == NIL) {
+            head = node;
+        } else {
+            setNext(tail, node);
+        }
+
+        tail = node;
+        ++size;
+    }
+
+    private void linkBefore(int node, int successor) {
+        int predecessor = getPrev(successor);
+        setPrev(node, predecessor);
+        setNext(node, successor);
+        setPrev(successor, node);
+
+        if (predecessor == NIL) {
+            head = node;
+        } else {
+            setNext(predecessor, node);
+        }
+
+        ++size;
+    }
+
+    private void unlink(int node) {
+        int predecessor = getPrev(node);
+        int successor = getNext(node);
+
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            setNext(predecessor, successor);
+        }
+
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            setPrev(successor, predecessor);
+        }
+
+        --size;
+    }
+
+    /**
+     * Returns the node at position {@code index}, walking from the closest
+     * known position.
+     */
+    private int node(int index) {
+        if (modifications > fingerCount) {
+            distributeFingers();
+        }
+
+        int startNode;
+        int startIndex;
+
+        if (index < size - index) {
+            startNode = head;
+            startIndex = 0;
+        } else {
+            startNode = tail;
+            startIndex = size - 1;
+        }
+
+        int fingerIndex = firstFingerAtOrAfter(index);
+
+        if (fingerIndex < fingerCount
+                && fingerIndices[fingerIndex] - index
+                 < Math.abs(startIndex - index)) {
+            startNode = fingerNodes[fingerIndex];
+            startIndex = fingerIndices[fingerIndex];
+        }
+
+        if (fingerIndex > 0
+                && index - fingerIndices[fingerIndex - 1]
+                 < Math.abs(startIndex - index)) {
+            startNode = fingerNodes[fingerIndex - 1];
+            startIndex = fingerIndices[fingerIndex - 1];
+        }
+
+        int node = startNode;
+
+        for (int i = startIndex; i < index; ++i) {
+            node = getNext(node);
+        }
+
+        for (int i = startIndex; i > index; --i) {
+            node = getPrev(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the position of the first finger pointing at or after
+     * {@code index}, or {@code fingerCount} if there is no such finger.
+     */
+    private int firstFingerAtOrAfter(int index) {
+        int low = 0;
+        int high = fingerCount;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (fingerIndices[middle] < index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Spreads {@code ceil(sqrt(size))} fingers evenly over the list.
+     */
+    private void distributeFingers() {
+        fingerCount = (int) Math.ceil(Math.sqrt(size));
+
+        if (fingerNodes.length < fingerCount) {
+            fingerNodes = new int[fingerCount];
+            fingerIndices = new int[fingerCount];
+        }
+
+        int node = head;
+        int index = 0;
+
+        for (int i = 0; i < fingerCount; ++i) {
+            int fingerIndex = (int) ((long) i * size / fingerCount);
+
+            while (index < fingerIndex) {
+                node = getNext(node);
+                ++index;
+            }
+
+            fingerNodes[i] = node;
+            fingerIndices[i] = index;
+        }
+
+        modifications = 0;
+    }
+}
@@ -0,0 +1,792 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A list stored as a B+-tree of arrays: the elements sit in leaf arrays of up
+ * to {@value #NODE_CAPACITY} elements, and every branch node keeps up to
+ * {@value #NODE_CAPACITY} children together with the number of elements in
+ * each child subtree. A positional access descends by these counts, so
+ * {@code get}, {@code set}, {@code add(int, E)} and {@code remove(int)} take
+ * {@code O(log n)} time with a high fan-out and few cache misses.
+ * <p>
+ * A node with fewer than half the capacity is merged with, or refilled
+ * from, a sibling, so all leaves stay on the same depth. Removing a range
+ * ({@code subList(from, to).clear()}) drops the subtrees inside the range as
+ * a whole and cuts only the nodes on the paths to the two range ends, which
+ * takes {@code O(log n)} time regardless of the range length. Appending at
+ * the end fills the nodes completely instead of splitting them in halves.
+ *
+ * @param <E> the element type.
+ */
+public final class BTreeList<E> extends AbstractList<E> {
+
+    private static final int NODE_CAPACITY = 64;
+    private static final int MINIMUM_COUNT = NODE_CAPACITY / 2;
+
+    private static final class Node {
+
+        /**
+         * The elements of a leaf; {@code null} in a branch.
+         */
+        final Object[] elements;
+
+        /**
+         * The children of a branch and the sizes of their subtrees;
+         * {@code null} in a leaf.
+         */
+        final Node[] children;
+        final int[] sizes;
+
+        /**
+         * The number of elements in a leaf or of children in a branch.
+         */
+        int count;
+
+        /**
+         * The number of elements in the subtree.
+         */
+        int size;
+
+        Node(boolean leaf) {
+            if (leaf) {
+                elements = new Object[NODE_CAPACITY];
+                children = null;
+                sizes = null;
+            } else {
+                elements = null;
+                children = new Node[NODE_CAPACITY];
+                sizes = new int[NODE_CAPACITY];
+            }
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private Node root = new Node(true);
+
+    /**
+     * The start index of the leaf returned by the last call to
+     * {@link #findLeaf(int)}.
+     */
+    private int foundLeafStart;
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, root.size);
+        Node leaf = findLeaf(index);
+        return (E) leaf.elements[index - foundLeafStart];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, root.size);
+        Node leaf = findLeaf(index);
+        int offset = index - foundLeafStart;
+        @SuppressWarnings("unchecked")
+        E oldElement = (E) leaf.elements[offset];
+        leaf.elements[offset] = element;
+        return oldElement;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, root.size + 1);
+        Node split = insert(root, index, element, index == root.size);
+
+        if (split != null) {
+            Node newRoot = new Node(false);
+            newRoot.children[0] = root;
+            newRoot.sizes[0] = root.size;
+            newRoot.children[1] = split;
+            newRoot.sizes[1] = split.size;
+            newRoot.count = 2;
+            newRoot.size = root.size + split.size;
+            root = newRoot;
+        }
+
+        ++modCount;
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, root.size);
+        E element = remove(root, index);
+        collapseRoot();
+        ++modCount;
+        return element;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(root, o, 0);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        root = new Node(true);
+        ++modCount;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new LeafIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, root.size + 1);
+        return new LeafIterator(index);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        if (fromIndex == 0 && toIndex == root.size) {
+            clear();
+            return;
+        }
+
+        removeRange(root, fromIndex, toIndex);
+        collapseRoot();
+        ++modCount;
+    }
+
+    /**
+     * Returns the leaf containing the element at {@code index} and stores
+     * the start index of that leaf in {@link #foundLeafStart}.
+     */
+    private Node findLeaf(int index) {
+        Node node = root;
+        int start = 0;
+
+        while (!node.isLeaf()) {
+            int i = 0;
+
+            while (index >= node.sizes[i]) {
+                index -= node.sizes[i];
+                start += node.sizes[i];
+                ++i;
+            }
+
+            node = node.children[i];
+        }
+
+        foundLeafStart = start;
+        return node;
+    }
+
+    /**
+     * Inserts {@code element} at {@code index} of the subtree of
+     * {@code node}. If the node has to be split, returns the new right
+     * sibling, which the caller links after {@code node}.
+     */
+    private static Node insert(Node node,
+                               int index,
+                               Object element,
+                               boolean append) {
+        if (node.isLeaf()) {
+            if (node.count < NODE_CAPACITY) {
+                insertElement(node, index, element);
+                return null;
+            }
+
+            Node right = new Node(true);
+            moveElements(node, append ? NODE_CAPACITY : MINIMUM_COUNT, right);
+
+            if (index <= node.count && node.count < NODE_CAPACITY) {
+                insertElement(node, index, element);
+            } else {
+                insertElement(right, index - node.count, element);
+            }
+
+            return right;
+        }
+
+        int i = 0;
+
+        // An index between two children goes to the end of the left one:
+        while (i < node.count - 1 && index > node.sizes[i]) {
+            index -= node.sizes[i];
+            ++i;
+        }
+
+        Node child = node.children[i];
+        Node split = insert(child, index, element, append);
+        node.sizes[i] = child.size;
+        ++node.size;
+
+        if (split == null) {
+            return null;
+        }
+
+        if (node.count < NODE_CAPACITY) {
+            insertChild(node, i + 1, split);
+            return null;
+        }
+
+        Node right = new Node(false);
+        moveChildren(node, append ? NODE_CAPACITY : MINIMUM_COUNT, right);
+
+        if (i + 1 <= node.count && node.count < NODE_CAPACITY) {
+            insertChild(node, i + 1, split);
+        } else {
+            insertChild(right, i + 1 - node.count, split);
+        }
+
+        node.size = sum(node.sizes, node.count);
+        right.size = sum(right.sizes, right.count);
+        return right;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E remove(Node node, int index) {
+        if (node.isLeaf()) {
+            E element = (E) node.elements[index];
+
+            System.arraycopy(node.elements,
+                             index + 1,
+                             node.elements,
+                             index,
+                             node.count - index - 1);
+
+            node.elements[--node.count] = null;
+            --node.size;
+            return element;
+        }
+
+        int i = 0;
+
+        while (index >= node.sizes[i]) {
+            index -= node.sizes[i];
+            ++i;
+        }
+
+        E element = remove(node.children[i], index);
+        --node.sizes[i];
+        --node.size;
+        repair(node, i);
+        return element;
+    }
+
+    /**
+     * Removes the elements {@code [fromIndex, toIndex)} of the subtree of
+     * {@code node}, which keeps at least one element.
+     */
+    private static void removeRange(Node node, int fromIndex, int toIndex) {
+        int removed = toIndex - fromIndex;
+
+        if (node.isLeaf()) {
+            System.arraycopy(node.elements,
+                             toIndex,
+                             node.elements,
+                             fromIndex,
+                             node.count - toIndex);
+
+            Arrays.fill(node.elements, node.count - removed, node.count, null);
+            node.count -= removed;
+            node.size -= removed;
+            return;
+        }
+
+        int offset = 0;
+        int kept = 0;
+        int firstTouched = -1;
+
+        for (int i = 0; i < node.count; ++i) {
+            Node child = node.children[i];
+            int childSize = node.sizes[i];
+            int from = Math.max(fromIndex, offset) - offset;
+            int to = Math.min(toIndex, offset + childSize) - offset;
+            offset += childSize;
+
+            if (from < to) {
+                if (firstTouched < 0) {
+                    firstTouched = kept;
+                }
+
+                if (from == 0 && to == childSize) {
+                    // The whole subtree goes:
+                    continue;
+                }
+
+                removeRange(child, from, to);
+            }
+
+            node.children[kept] = child;
+            node.sizes[kept] = child.size;
+            ++kept;
+        }
+
+        Arrays.fill(node.children, kept, node.count, null);
+        node.count = kept;
+        node.size -= removed;
+
+        // Only the children cut at the two range ends may be underfull now,
+        // and they are adjacent:
+        if (firstTouched + 1 < node.count) {
+            repair(node, firstTouched + 1);
+        }
+
+        if (firstTouched < node.count) {
+            repair(node, firstTouched);
+        }
+    }
+
+    /**
+     * Merges the child {@code i} of {@code node} with a sibling, or refills
+     * it from one, until it is no longer underfull.
+     */
+    private static void repair(Node node, int i) {
+        while (node.count > 1 && node.children[i].count < MINIMUM_COUNT) {
+            int left = i + 1 < node.count ? i : i - 1;
+
+            if (node.children[left].count + node.children[left + 1].count
+                    <= NODE_CAPACITY) {
+                merge(node, left);
+                i = left;
+            } else {
+                redistribute(node, left);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves the content of the child {@code left + 1} of {@code node} into
+     * the child {@code left} and removes the former.
+     */
+    private static void merge(Node node, int left) {
+        Node leftChild = node.children[left];
+        Node rightChild = node.children[left + 1];
+        int junction = leftChild.count;
+
+        if (leftChild.isLeaf()) {
+            System.arraycopy(rightChild.elements,
+                             0,
+                             leftChild.elements,
+                             junction,
+                             rightChild.count);
+        } else {
+            System.arraycopy(rightChild.children,
+                             0,
+                             leftChild.children,
+                             junction,
+                             rightChild.count);
+            System.arraycopy(rightChild.sizes,
+                             0,
+                             leftChild.sizes,
+                             junction,
+                             rightChild.count);
+        }
+
+        leftChild.count += rightChild.count;
+        leftChild.size += rightChild.size;
+        removeChild(node, left + 1);
+        node.sizes[left] = leftChild.size;
+
+        if (!leftChild.isLeaf()) {
+            // An underfull grandchild without siblings may have become
+            // adjacent to new ones:
+            repairJunction(leftChild, junction);
+        }
+    }
+
+    /**
+     * Evens out the counts of the children {@code left} and {@code left + 1}
+     * of {@code node}.
+     */
+    private static void redistribute(Node node, int left) {
+        Node leftChild = node.children[left];
+        Node rightChild = node.children[left + 1];
+        int target = (leftChild.count + rightChild.count) / 2;
+
+        if (leftChild.count > target) {
+            int moved = leftChild.count - target;
+            shiftRight(rightChild, moved);
+            copyEntries(leftChild, target, rightChild, 0, moved);
+            clearEntries(leftChild, target, leftChild.count);
+            leftChild.count = target;
+            rightChild.count += moved;
+        } else {
+            int moved = target - leftChild.count;
+            copyEntries(rightChild, 0, leftChild, leftChild.count, moved);
+            shiftLeft(rightChild, moved);
+            leftChild.count = target;
+            rightChild.count -= moved;
+        }
+
+        leftChild.size = leftChild.isLeaf()
+                ? leftChild.count
+                : sum(leftChild.sizes, leftChild.count);
+        rightChild.size = rightChild.isLeaf()
+                ? rightChild.count
+                : sum(rightChild.sizes, rightChild.count);
+        node.sizes[left] = leftChild.size;
+        node.sizes[left + 1] = rightChild.size;
+
+        if (!leftChild.isLeaf()) {
+            repairJunction(leftChild, leftChild.count);
+            repairJunction(rightChild, 0);
+        }
+    }
+
+    private static void repairJunction(Node node, int junction) {
+        if (junction < node.count) {
+            repair(node, junction);
+        }
+
+        if (junction > 0 && junction - 1 < node.count) {
+            repair(node, junction - 1);
+        }
+    }
+
+    private void collapseRoot() {
+        while (!root.isLeaf() && root.count == 1) {
+            root = root.children[0];
+        }
+    }
+
+    private static int indexOf(Node node, Object o, int offset) {
+        if (node.isLeaf()) {
+            for (int i = 0; i < node.count; ++i) {
+                if (Objects.equals(o, node.elements[i])) {
+                    return offset + i;
+                }
+            }
+
+            return -1;
+        }
+
+        for (int i = 0; i < node.count; ++i) {
+            int index = indexOf(node.children[i], o, offset);
+
+            if (index >= 0) {
+                return index;
+            }
+
+            offset += node.sizes[i];
+        }
+
+        return -1;
+    }
+
+    private static void insertElement(Node leaf, int index, Object element) {
+        System.arraycopy(leaf.elements,
+                         index,
+                         leaf.elements,
+                         index + 1,
+                         leaf.count - index);
+
+        leaf.elements[index] = element;
+        ++leaf.count;
+        ++leaf.size;
+    }
+
+    /**
+     * Inserts {@code child} at {@code index} of {@code branch} without
+     * updating the size of the branch.
+     */
+    private static void insertChild(Node branch, int index, Node child) {
+        shiftRight(branch, 1, index);
+        branch.children[index] = child;
+        branch.sizes[index] = child.size;
+        ++branch.count;
+    }
+
+    private static void removeChild(Node branch, int index) {
+        System.arraycopy(branch.children,
+                         index + 1,
+                         branch.children,
+                         index,
+                         branch.count - index - 1);
+        System.arraycopy(branch.sizes,
+                         index + 1,
+                         branch.sizes,
+                         index,
+                         branch.count - index - 1);
+
+        branch.children[--branch.count] = null;
+    }
+
+    /**
+     * Moves the elements {@code [from, count)} of the full leaf {@code leaf}
+     * to the empty leaf {@code right}.
+     */
+    private static void moveElements(Node leaf, int from, Node right) {
+        int moved = leaf.count - from;
+        System.arraycopy(leaf.elements, from, right.elements, 0, moved);
+        Arrays.fill(leaf.elements, from, leaf.count, null);
+        right.count = moved;
+        right.size = moved;
+        leaf.count = from;
+        leaf.size = from;
+    }
+
+    /**
+     * Moves the children {@code [from, count)} of the full branch
+     * {@code branch} to the empty branch {@code right}; the caller updates
+     * the sizes of both.
+     */
+    private static void moveChildren(Node branch, int from, Node right) {
+        int moved = branch.count - from;
+        System.arraycopy(branch.children, from, right.children, 0, moved);
+        System.arraycopy(branch.sizes, from, right.sizes, 0, moved);
+        Arrays.fill(branch.children, from, branch.count, null);
+        right.count = moved;
+        branch.count = from;
+    }
+
+    private static void shiftRight(Node node, int distance) {
+        shiftRight(node, distance, 0);
+    }
+
+    /**
+     * Shifts the entries from {@code index} on by {@code distance} positions
+     * towards the end of the node.
+     */
+    private static void shiftRight(Node node, int distance, int index) {
+        if (node.isLeaf()) {
+            System.arraycopy(node.elements,
+                             index,
+                             node.elements,
+                             index + distance,
+                             node.count - index);
+        } else {
+            System.arraycopy(node.children,
+                             index,
+                             node.children,
+                             index + distance,
+                             node.count - index);
+            System.arraycopy(node.sizes,
+                             index,
+                             node.sizes,
+                             index + distance,
+                             node.count - index);
+        }
+    }
+
+    /**
+     * Drops the first {@code distance} entries of {@code node}, shifting the
+     * rest towards the start, without updating the count.
+     */
+    private static void shiftLeft(Node node, int distance) {
+        if (node.isLeaf()) {
+            System.arraycopy(node.elements,
+                             distance,
+                             node.elements,
+                             0,
+                             node.count - distance);
+        } else {
+            System.arraycopy(node.children,
+                             distance,
+                             node.children,
+                             0,
+                             node.count - distance);
+            System.arraycopy(node.sizes,
+                             distance,
+                             node.sizes,
+                             0,
+                             node.count - distance);
+        }
+
+        clearEntries(node, node.count - distance, node.count);
+    }
+
+    private static void copyEntries(Node source,
+                                    int sourceIndex,
+                                    Node target,
+                                    int targetIndex,
+                                    int length) {
+        if (source.isLeaf()) {
+            System.arraycopy(source.elements,
+                             sourceIndex,
+                             target.elements,
+                             targetIndex,
+                             length);
+        } else {
+            System.arraycopy(source.children,
+                             sourceIndex,
+                             target.children,
+                             targetIndex,
+                             length);
+            System.arraycopy(source.sizes,
+                             sourceIndex,
+                             target.sizes,
+                             targetIndex,
+                             length);
+        }
+    }
+
+    private static void clearEntries(Node node, int from, int to) {
+        if (node.isLeaf()) {
+            Arrays.fill(node.elements, from, to, null);
+        } else {
+            Arrays.fill(node.children, from, to, null);
+        }
+    }
+
+    private static int sum(int[] sizes, int count) {
+        int sum = 0;
+
+        for (int i = 0; i < count; ++i) {
+            sum += sizes[i];
+        }
+
+        return sum;
+    }
+
+    private final class LeafIterator implements ListIterator<E> {
+
+        /**
+         * The leaf of the last accessed element, starting at
+         * {@link #leafStart}, or {@code null} if not known.
+         */
+        private Node leaf;
+        private int leafStart;
+
+        private int nextIndex;
+        private int lastReturnedIndex = -1;
+        private int expectedModCount = modCount;
+
+        LeafIterator(int nextIndex) {
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < root.size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (nextIndex >= root.size) {
+                throw new NoSuchElementException();
+            }
+
+            E element = seek(nextIndex);
+            lastReturnedIndex = nextIndex++;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+
+            E element = seek(--nextIndex);
+            lastReturnedIndex = nextIndex;
+            return element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            BTreeList.this.remove(lastReturnedIndex);
+            leaf = null;
+            nextIndex = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            seek(lastReturnedIndex);
+            leaf.elements[lastReturnedIndex - leafStart] = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            BTreeList.this.add(nextIndex++, element);
+            leaf = null;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Returns the element at {@code index}, descending from the root
+         * only when leaving the current leaf.
+         */
+        @SuppressWarnings("unchecked")
+        private E seek(int index) {
+            if (leaf == null
+                    || index < leafStart
+                    || index >= leafStart + leaf.count) {
+                leaf = findLeaf(index);
+                leafStart = foundLeafStart;
+            }
+
+            return (E) leaf.elements[index - leafStart];
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
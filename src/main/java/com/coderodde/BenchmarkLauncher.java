@@ -0,0 +1,174 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.BenchmarkList;
+import org.openjdk.jmh.runner.BenchmarkListEntry;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.format.OutputFormatFactory;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+import org.openjdk.jmh.util.Optional;
+
+/**
+ * Runs benchmarks with every list registered in {@link ListImplementations},
+ * including those plugged in via {@link ListProvider}. The {@code @Param}
+ * values of a workload are fixed at compile time, so a benchmark whose
+ * {@code implementation} parameter defaults to registered names only runs
+ * with the whole registry instead. Benchmarks comparing other
+ * implementations, such as the {@code int} lists, keep their defaults, and
+ * an {@code implementation} parameter given explicitly is left alone.
+ * <p>
+ * Every {@code main} of the suite runs its benchmarks through
+ * {@link #run(Options)}. {@link #main(String[])} is the entry point of the
+ * benchmark jar and accepts the command line of {@code org.openjdk.jmh.Main},
+ * so {@code java -jar benchmarks.jar} picks up providers as well.
+ */
+public final class BenchmarkLauncher {
+
+    private static final String IMPLEMENTATION_PARAMETER = "implementation";
+
+    private BenchmarkLauncher() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        CommandLineOptions options;
+
+        try {
+            options = new CommandLineOptions(args);
+        } catch (CommandLineOptionException ex) {
+            System.err.println("Error parsing command line:");
+            System.err.println(" " + ex.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (options.shouldHelp()
+                || options.shouldList()
+                || options.shouldListWithParams()
+                || options.shouldListProfilers()
+                || options.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        try {
+            run(options);
+        } catch (RunnerException ex) {
+            System.err.print("ERROR: ");
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the benchmarks selected by {@code options}, passing every
+     * registered implementation to the benchmarks that take them. If the
+     * selection mixes such benchmarks with others, the two groups run one
+     * after the other, so a result file given in {@code options} holds only
+     * the second group.
+     *
+     * @param options the benchmark options.
+     * @return the results of all runs.
+     * @throws RunnerException if a run fails.
+     */
+    public static Collection<RunResult> run(Options options)
+            throws RunnerException {
+        if (options.getParameter(IMPLEMENTATION_PARAMETER).hasValue()) {
+            return new Runner(options).run();
+        }
+
+        List<String> registryBenchmarks = new ArrayList<>();
+        List<String> otherBenchmarks = new ArrayList<>();
+
+        for (BenchmarkListEntry entry : findBenchmarks(options)) {
+            if (takesRegisteredImplementations(entry)) {
+                registryBenchmarks.add(entry.getUsername());
+            } else {
+                otherBenchmarks.add(entry.getUsername());
+            }
+        }
+
+        if (registryBenchmarks.isEmpty()) {
+            return new Runner(options).run();
+        }
+
+        List<RunResult> runResults = new ArrayList<>();
+
+        if (!otherBenchmarks.isEmpty()) {
+            runResults.addAll(
+                    new Runner(exclude(new OptionsBuilder().parent(options),
+                                       registryBenchmarks).build()).run());
+        }
+
+        ChainedOptionsBuilder optionsBuilder =
+                exclude(new OptionsBuilder().parent(options), otherBenchmarks)
+                        .param(IMPLEMENTATION_PARAMETER,
+                               ListImplementations.getNames()
+                                                  .toArray(new String[0]));
+
+        runResults.addAll(new Runner(optionsBuilder.build()).run());
+        return runResults;
+    }
+
+    private static Collection<BenchmarkListEntry> findBenchmarks(
+            Options options) {
+        List<String> includes = options.getIncludes().isEmpty() ?
+                Collections.singletonList(".*") :
+                options.getIncludes();
+
+        return BenchmarkList.defaultList().find(
+                OutputFormatFactory.createFormatInstance(System.out,
+                                                         VerboseMode.SILENT),
+                includes,
+                options.getExcludes());
+    }
+
+    /**
+     * Tells whether all default {@code implementation} values of the
+     * benchmark of {@code entry} are registered names.
+     */
+    private static boolean takesRegisteredImplementations(
+            BenchmarkListEntry entry) {
+        Optional<Map<String, String[]>> params = entry.getParams();
+
+        if (!params.hasValue()) {
+            return false;
+        }
+
+        String[] implementations = params.get().get(IMPLEMENTATION_PARAMETER);
+
+        if (implementations == null) {
+            return false;
+        }
+
+        for (String implementation : implementations) {
+            if (!ListImplementations.getNames().contains(implementation)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static ChainedOptionsBuilder exclude(
+            ChainedOptionsBuilder optionsBuilder,
+            List<String> benchmarks) {
+        for (String benchmark : benchmarks) {
+            optionsBuilder.exclude("^" + Pattern.quote(benchmark) + "$");
+        }
+
+        return optionsBuilder;
+    }
+}
@@ -0,0 +1,57 @@
+package com.coderodde;
+
+import java.util.List;
+
+/**
+ * Adapts a boxed {@code List<Integer>} to {@link IntList} so that the boxed
+ * lists run the very same primitive workloads. Every call boxes or unboxes
+ * exactly as the boxed list would in client code.
+ */
+public final class BoxedIntList implements IntList {
+
+    private final List<Integer> list;
+
+    public BoxedIntList(List<Integer> list) {
+        this.list = list;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public void addInt(int value) {
+        list.add(value);
+    }
+
+    @Override
+    public void addInt(int index, int value) {
+        list.add(index, value);
+    }
+
+    @Override
+    public int getInt(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int setInt(int index, int value) {
+        return list.set(index, value);
+    }
+
+    @Override
+    public int removeAtInt(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public boolean removeInt(int value) {
+        return list.remove((Integer) value);
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+}
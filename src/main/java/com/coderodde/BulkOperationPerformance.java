@@ -0,0 +1,124 @@
+package com.coderodde;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the bulk filtering operations {@code removeIf},
+ * {@code retainAll}, {@code removeAll} and {@code replaceAll} on lists of
+ * {@code size} shuffled elements. The {@code selectivity} parameter is the
+ * fraction of the elements each operation removes, or replaces in the case of
+ * {@code replaceAll}. The selected elements are scattered over the whole list.
+ * Every invocation works on a fresh copy of the list.
+ */
+@State(Scope.Thread)
+public class BulkOperationPerformance {
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State bulk ////////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class BulkState
+            extends IndexedLinkedListPerformance.ContentState {
+
+        @Param({"0.01", "0.1", "0.5", "0.9"})
+        public double selectivity;
+
+        /**
+         * The elements below this value are the selected ones.
+         */
+        public int threshold;
+
+        public Set<Integer> selectedSet;
+        public Set<Integer> unselectedSet;
+
+        @Override
+        protected void populate() {
+            super.populate();
+            Collections.shuffle(contentList, new Random(seed));
+
+            threshold = (int) Math.round(selectivity * size);
+            selectedSet = new HashSet<>();
+            unselectedSet = new HashSet<>();
+
+            for (Integer element : contentList) {
+                if (element < threshold) {
+                    selectedSet.add(element);
+                } else {
+                    unselectedSet.add(element);
+                }
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileRemoveIf ///////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public boolean profileRemoveIf(BulkState state) {
+        int threshold = state.threshold;
+        return state.list.removeIf(element -> element < threshold);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileRetainAll //////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public boolean profileRetainAll(BulkState state) {
+        return state.list.retainAll(state.unselectedSet);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileBulkRemoveAll //////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public boolean profileBulkRemoveAll(BulkState state) {
+        return state.list.removeAll(state.selectedSet);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileReplaceAll /////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public List<Integer> profileReplaceAll(BulkState state) {
+        int threshold = state.threshold;
+        List<Integer> list = state.list;
+        list.replaceAll(element -> element < threshold ? -element : element);
+        return list;
+    }
+    ////////////////////////////////////////////////////////////////////////////
+}
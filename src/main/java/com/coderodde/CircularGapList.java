@@ -0,0 +1,288 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An array list whose free capacity forms a single movable gap in a circular
+ * array. Inserting or removing at the gap moves no elements; an edit elsewhere
+ * first moves the gap there, shifting only the elements between the old and
+ * the new gap position.
+ * <p>
+ * Since the array is circular, the gap in front of the first element and the
+ * gap behind the last element are the same gap, and the gap moves whichever
+ * way round the circle is shorter. Hence adding or removing at the head, at
+ * the tail and next to the last edit takes amortized constant time, while
+ * {@link #get(int)} and {@link #set(int, Object)} stay constant time.
+ *
+ * @param <E> the element type.
+ */
+public final class CircularGapList<E> extends AbstractList<E>
+        implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements = new Object[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * The physical index of the first element, or of the gap if the gap is
+     * in front of the first element.
+     */
+    private int start;
+
+    /**
+     * The logical index the gap is at: the elements {@code [0, gapIndex)}
+     * precede the gap, the rest follows it.
+     */
+    private int gapIndex;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[physicalIndex(index)];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int physicalIndex = physicalIndex(index);
+        @SuppressWarnings("unchecked")
+        E oldElement = (E) elements[physicalIndex];
+        elements[physicalIndex] = element;
+        return oldElement;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size, element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+
+        if (size == elements.length) {
+            grow();
+        }
+
+        moveGap(index);
+        elements[wrap(start + gapIndex)] = element;
+        ++gapIndex;
+        ++size;
+        ++modCount;
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        int physicalIndex;
+
+        // Either remove the element behind the gap or the one in front of it,
+        // whichever needs the shorter gap move:
+        if (getGapDistance(index) <= getGapDistance(index + 1)) {
+            moveGap(index);
+            physicalIndex = wrap(start + gapIndex + getGapSize());
+        } else {
+            moveGap(index + 1);
+            --gapIndex;
+            physicalIndex = wrap(start + gapIndex);
+        }
+
+        @SuppressWarnings("unchecked")
+        E element = (E) elements[physicalIndex];
+        elements[physicalIndex] = null;
+        --size;
+        ++modCount;
+        return element;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        size = 0;
+        start = 0;
+        gapIndex = 0;
+        ++modCount;
+    }
+
+    private int getGapSize() {
+        return elements.length - size;
+    }
+
+    private int wrap(int physicalIndex) {
+        return physicalIndex >= elements.length
+                ? physicalIndex - elements.length
+                : physicalIndex;
+    }
+
+    private int physicalIndex(int index) {
+        return index < gapIndex
+                ? wrap(start + index)
+                : wrap(start + index + getGapSize());
+    }
+
+    /**
+     * Returns the number of elements to shift in order to move the gap to
+     * the logical index {@code target}.
+     */
+    private int getGapDistance(int target) {
+        if (size == 0) {
+            return 0;
+        }
+
+        int forward = Math.floorMod(target - gapIndex, size);
+        return Math.min(forward, size - forward);
+    }
+
+    private void moveGap(int target) {
+        if (size == 0) {
+            start = 0;
+            gapIndex = 0;
+            return;
+        }
+
+        int forward = Math.floorMod(target - gapIndex, size);
+
+        if (forward <= size - forward) {
+            shiftGapForward(forward);
+        } else {
+            shiftGapBackward(size - forward);
+        }
+
+        // The gap in front of the first element is the gap behind the last
+        // one; only the bookkeeping differs:
+        if (gapIndex == 0 && target == size) {
+            start = wrap(start + getGapSize());
+            gapIndex = size;
+        } else if (gapIndex == size && target == 0) {
+            start = Math.floorMod(start - getGapSize(), elements.length);
+            gapIndex = 0;
+        }
+    }
+
+    /**
+     * Moves the {@code count} elements behind the gap in front of it.
+     */
+    private void shiftGapForward(int count) {
+        if (count == 0) {
+            return;
+        }
+
+        int gapSize = getGapSize();
+        int gap = wrap(start + gapIndex);
+
+        copyDownwards(wrap(gap + gapSize), gap, count);
+        clear(wrap(gap + Math.max(count, gapSize)), Math.min(count, gapSize));
+
+        if (gapIndex + count > size) {
+            // Moved past the last element onto the first ones:
+            start = Math.floorMod(start - gapSize, elements.length);
+            gapIndex += count - size;
+        } else {
+            gapIndex += count;
+        }
+    }
+
+    /**
+     * Moves the {@code count} elements in front of the gap behind it.
+     */
+    private void shiftGapBackward(int count) {
+        if (count == 0) {
+            return;
+        }
+
+        int gapSize = getGapSize();
+        int from = Math.floorMod(start + gapIndex - count, elements.length);
+
+        copyUpwards(from, wrap(from + gapSize), count);
+        clear(from, Math.min(count, gapSize));
+
+        if (gapIndex < count) {
+            // Moved past the first element onto the last ones:
+            start = wrap(start + gapSize);
+            gapIndex += size - count;
+        } else {
+            gapIndex -= count;
+        }
+    }
+
+    /**
+     * Copies {@code length} elements circularly from {@code from} to the
+     * lower position {@code to}, first elements first.
+     */
+    private void copyDownwards(int from, int to, int length) {
+        while (length > 0) {
+            int chunk = Math.min(length,
+                                 Math.min(elements.length - from,
+                                          elements.length - to));
+
+            System.arraycopy(elements, from, elements, to, chunk);
+            from = wrap(from + chunk);
+            to = wrap(to + chunk);
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Copies {@code length} elements circularly from {@code from} to the
+     * higher position {@code to}, last elements first.
+     */
+    private void copyUpwards(int from, int to, int length) {
+        while (length > 0) {
+            int fromEnd = exclusiveEnd(from, length);
+            int toEnd = exclusiveEnd(to, length);
+            int chunk = Math.min(length, Math.min(fromEnd, toEnd));
+
+            System.arraycopy(elements,
+                             fromEnd - chunk,
+                             elements,
+                             toEnd - chunk,
+                             chunk);
+
+            length -= chunk;
+        }
+    }
+
+    private int exclusiveEnd(int physicalIndex, int length) {
+        int end = (physicalIndex + length) % elements.length;
+        return end == 0 ? elements.length : end;
+    }
+
+    private void clear(int from, int length) {
+        int end = from + length;
+
+        if (end <= elements.length) {
+            Arrays.fill(elements, from, end, null);
+        } else {
+            Arrays.fill(elements, from, elements.length, null);
+            Arrays.fill(elements, 0, end - elements.length, null);
+        }
+    }
+
+    /**
+     * Doubles the capacity, laying the elements out from the array start
+     * with the gap behind them.
+     */
+    private void grow() {
+        Object[] newElements = new Object[Math.max(DEFAULT_CAPACITY,
+                                                   2 * elements.length)];
+
+        for (int i = 0; i < size; ++i) {
+            newElements[i] = elements[physicalIndex(i)];
+        }
+
+        elements = newElements;
+        start = 0;
+        gapIndex = size;
+    }
+}
@@ -0,0 +1,225 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of {@link IndexedLinkedListPerformance} over
+ * geometrically increasing list sizes and fits the measured time per list
+ * operation against the usual complexity classes. For each model
+ * {@code t(n) = c * f(n)} the least squares constant {@code c} and the
+ * coefficient of determination R^2 are computed; the model with the highest
+ * R^2 is reported as the best fit. R^2 of O(1) is zero by construction, so a
+ * growing model wins only if it explains the data better than a constant.
+ * <p>
+ * The options are {@code --from=<size>}, {@code --to=<size>} and
+ * {@code --factor=<growth>} (default 1000, 256000 and 4),
+ * {@code --implementations=<name>,<name>} (default: all registered),
+ * {@code --operations=<benchmark>,<benchmark>} (default: all of them) and
+ * {@code --profile=quick|rigorous}.
+ */
+public final class ComplexityFitter {
+
+    private static final String FROM_OPTION            = "--from=";
+    private static final String TO_OPTION              = "--to=";
+    private static final String FACTOR_OPTION          = "--factor=";
+    private static final String IMPLEMENTATIONS_OPTION = "--implementations=";
+    private static final String OPERATIONS_OPTION      = "--operations=";
+    private static final String PROFILE_OPTION         = "--profile=";
+
+    /**
+     * The fitted complexity classes.
+     */
+    private enum Model {
+        CONSTANT     ("O(1)",       (n) -> 1.0),
+        LOGARITHMIC  ("O(log n)",   (n) -> Math.log(n)),
+        SQUARE_ROOT  ("O(sqrt n)",  (n) -> Math.sqrt(n)),
+        LINEAR       ("O(n)",       (n) -> n),
+        LINEARITHMIC ("O(n log n)", (n) -> n * Math.log(n));
+
+        final String notation;
+        final DoubleUnaryOperator function;
+
+        Model(String notation, DoubleUnaryOperator function) {
+            this.notation = notation;
+            this.function = function;
+        }
+    }
+
+    private ComplexityFitter() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        int from = 1_000;
+        int to = 256_000;
+        int factor = 4;
+        List<String> implementations =
+                new ArrayList<>(ListImplementations.getNames());
+        String operations = null;
+        RunProfile runProfile = RunProfile.QUICK;
+
+        for (String arg : args) {
+            if (arg.startsWith(FROM_OPTION)) {
+                from = Integer.parseInt(arg.substring(FROM_OPTION.length()));
+            } else if (arg.startsWith(TO_OPTION)) {
+                to = Integer.parseInt(arg.substring(TO_OPTION.length()));
+            } else if (arg.startsWith(FACTOR_OPTION)) {
+                factor = Integer.parseInt(
+                        arg.substring(FACTOR_OPTION.length()));
+            } else if (arg.startsWith(IMPLEMENTATIONS_OPTION)) {
+                implementations = Arrays.asList(
+                        arg.substring(IMPLEMENTATIONS_OPTION.length())
+                           .split(","));
+            } else if (arg.startsWith(OPERATIONS_OPTION)) {
+                operations =
+                        arg.substring(OPERATIONS_OPTION.length())
+                           .replace(',', '|');
+            } else if (arg.startsWith(PROFILE_OPTION)) {
+                runProfile = RunProfile.forName(
+                        arg.substring(PROFILE_OPTION.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        List<String> sizes = getSizes(from, to, factor);
+
+        if (sizes.size() < 3) {
+            throw new IllegalArgumentException(
+                    "At least three sizes are needed for a fit, got " + sizes);
+        }
+
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(IndexedLinkedListPerformance.class.getName() + "\\." +
+                         (operations == null ?
+                                 "" :
+                                 "(" + operations + ")$"))
+                .jvmArgsPrepend("-server", "-Xms7G", "-Xmx7G")
+                .shouldDoGC(true)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .syncIterations(false)
+                .param("implementation",
+                       implementations.toArray(new String[0]))
+                .param("size", sizes.toArray(new String[0]));
+
+        runProfile.apply(optionsBuilder);
+
+        // Maps "benchmark/implementation" to the time per operation in
+        // nanoseconds at each size. Benchmarks with an index distribution
+        // are fitted per distribution:
+        Map<String, Map<Integer, Double>> timings = new TreeMap<>();
+
+        for (RunResult runResult :
+                BenchmarkLauncher.run(optionsBuilder.build())) {
+            String benchmark = runResult.getPrimaryResult().getLabel();
+            String distribution =
+                    runResult.getParams().getParam("distribution");
+            int size = Integer.parseInt(
+                    runResult.getParams().getParam("size"));
+            double time =
+                    runResult.getPrimaryResult().getScore() /
+                    Math.max(1, IndexedLinkedListPerformance
+                                .getOperationCount(benchmark, size));
+
+            timings.computeIfAbsent(
+                    benchmark +
+                    (distribution == null ? "" : ":" + distribution) + "/" +
+                    runResult.getParams().getParam("implementation"),
+                    (key) -> new TreeMap<>())
+                   .put(size, time);
+        }
+
+        System.out.print("--- Complexity fits of the time per operation " +
+                         "(benchmark, implementation, best fit, R^2 of");
+
+        for (Model model : Model.values()) {
+            System.out.print(" " + model.notation);
+        }
+
+        System.out.println("):");
+
+        for (Map.Entry<String, Map<Integer, Double>> entry
+                : timings.entrySet()) {
+            String[] key = entry.getKey().split("/");
+            double[] rSquares = new double[Model.values().length];
+            Model bestModel = Model.CONSTANT;
+
+            for (Model model : Model.values()) {
+                rSquares[model.ordinal()] =
+                        getRSquare(entry.getValue(), model);
+
+                if (rSquares[model.ordinal()]
+                        > rSquares[bestModel.ordinal()]) {
+                    bestModel = model;
+                }
+            }
+
+            System.out.printf("| %-45s | %-25s | %-10s ",
+                              key[0],
+                              key[1],
+                              bestModel.notation);
+
+            for (double rSquare : rSquares) {
+                System.out.printf("| %-8.4f ", rSquare);
+            }
+
+            System.out.println("|");
+        }
+    }
+
+    /**
+     * Fits {@code t(n) = c * f(n)} by least squares and returns its R^2.
+     */
+    private static double getRSquare(Map<Integer, Double> timings,
+                                     Model model) {
+        double sumFT = 0.0;
+        double sumFF = 0.0;
+        double sumT = 0.0;
+
+        for (Map.Entry<Integer, Double> entry : timings.entrySet()) {
+            double f = model.function.applyAsDouble(entry.getKey());
+            double t = entry.getValue();
+            sumFT += f * t;
+            sumFF += f * f;
+            sumT += t;
+        }
+
+        double c = sumFT / sumFF;
+        double mean = sumT / timings.size();
+        double residualSquares = 0.0;
+        double totalSquares = 0.0;
+
+        for (Map.Entry<Integer, Double> entry : timings.entrySet()) {
+            double f = model.function.applyAsDouble(entry.getKey());
+            double t = entry.getValue();
+            residualSquares += (t - c * f) * (t - c * f);
+            totalSquares += (t - mean) * (t - mean);
+        }
+
+        return totalSquares == 0.0 ? 0.0 : 1.0 - residualSquares / totalSquares;
+    }
+
+    private static List<String> getSizes(int from, int to, int factor) {
+        if (from < 1 || factor < 2) {
+            throw new IllegalArgumentException(
+                    "Bad size sweep: from " + from + " by " + factor);
+        }
+
+        List<String> sizes = new ArrayList<>();
+
+        for (long size = from; size <= to; size *= factor) {
+            sizes.add(Long.toString(size));
+        }
+
+        return sizes;
+    }
+}
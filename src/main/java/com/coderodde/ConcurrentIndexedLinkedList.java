@@ -0,0 +1,162 @@
+package com.coderodde;
+
+import com.github.coderodde.util.IndexedLinkedList;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe {@link IndexedLinkedList} guarded by a {@link StampedLock}.
+ * {@link #size()} first tries an optimistic read, which does not write to
+ * the lock at all, and falls back to the read lock only if a writer
+ * interfered. {@link #get(int)} traverses nodes and fingers a writer may be
+ * relinking, which an optimistic read cannot make safe, so it takes the read
+ * lock; every structural or content modification takes the write lock.
+ * <p>
+ * The lock is deliberately not striped by position: an insertion or a
+ * removal shifts the positions of all subsequent elements, so any structural
+ * edit would have to acquire every stripe.
+ * <p>
+ * Iteration, {@code equals} and {@code hashCode} visit the elements one at a
+ * time through {@link #get(int)} and are therefore not atomic.
+ *
+ * @param <E> the element type.
+ */
+public final class ConcurrentIndexedLinkedList<E> extends AbstractList<E> {
+
+    private final IndexedLinkedList<E> list = new IndexedLinkedList<>();
+    private final StampedLock lock = new StampedLock();
+
+    @Override
+    public E get(int index) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+
+        if (lock.validate(stamp)) {
+            return size;
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.add(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.add(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.addAll(collection);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(o);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
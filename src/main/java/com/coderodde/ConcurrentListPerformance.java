@@ -0,0 +1,187 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Benchmarks lists shared between threads: in every group the reader
+ * threads run {@code get} at random positions while the writer threads
+ * alternate between inserting and removing at random positions, so the list
+ * size stays within {@code [size, size + writers]}. Compares
+ * {@link ConcurrentIndexedLinkedList} with a synchronized {@link ArrayList}
+ * and {@link CopyOnWriteArrayList}.
+ * <p>
+ * The default split is three readers per writer; {@link #main(String[])}
+ * sweeps 1, 2, 4, 8 and 16 threads in total.
+ */
+@State(Scope.Group)
+public class ConcurrentListPerformance {
+
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16 };
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State shared list /////////////////////////////////////////////////////
+    @State(Scope.Group)
+    public static class SharedListState {
+
+        @Param({"ConcurrentIndexedLinkedList",
+                "SynchronizedList",
+                "CopyOnWriteArrayList"})
+        public String implementation;
+
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        public List<Integer> list;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            List<Integer> contentList = new ArrayList<>(size);
+
+            for (int i = 0; i < size; ++i) {
+                contentList.add(i);
+            }
+
+            switch (implementation) {
+                case "ConcurrentIndexedLinkedList":
+                    list = new ConcurrentIndexedLinkedList<>();
+                    list.addAll(contentList);
+                    break;
+
+                case "SynchronizedList":
+                    list = Collections.synchronizedList(contentList);
+                    break;
+
+                case "CopyOnWriteArrayList":
+                    list = new CopyOnWriteArrayList<>(contentList);
+                    break;
+
+                default:
+                    throw new IllegalArgumentException(
+                            "Unknown concurrent list implementation: "
+                                    + implementation);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State thread //////////////////////////////////////////////////////////
+    @State(Scope.Thread)
+    public static class ThreadState {
+        public Random random;
+        public boolean addNext;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            random = new Random(seed ^ Thread.currentThread().getId());
+            addNext = true;
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// readWrite /////////////////////////////////////////////////////////////
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public Integer profileGet(SharedListState state, ThreadState threadState) {
+        // The list never shrinks below 'size' elements:
+        return state.list.get(threadState.random.nextInt(state.size));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public Integer profileAddAtIndexOrRemoveAt(SharedListState state,
+                                               ThreadState threadState) {
+        int index = threadState.random.nextInt(state.size);
+        threadState.addNext = !threadState.addNext;
+
+        if (!threadState.addNext) {
+            state.list.add(index, index);
+            return index;
+        }
+
+        return state.list.remove(index);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    public static void main(String[] args) throws Exception {
+        List<RunResult> runResults = new ArrayList<>();
+
+        for (int threads : THREAD_COUNTS) {
+            int writers = threads == 1 ? 0 : Math.max(1, threads / 4);
+            int readers = threads - writers;
+
+            Options opt = new OptionsBuilder()
+                    .include(ConcurrentListPerformance.class.getName() + "\\.")
+                    .threadGroups(readers, writers)
+                    .warmupIterations(1)
+                    .warmupTime(TimeValue.seconds(2L))
+                    .measurementIterations(1)
+                    .measurementTime(TimeValue.seconds(2L))
+                    .timeUnit(TimeUnit.MILLISECONDS)
+                    .build();
+
+            runResults.addAll(BenchmarkLauncher.run(opt));
+        }
+
+        System.out.println("--- Throughput (ops/ms):");
+
+        for (RunResult runResult : runResults) {
+            System.out.printf(
+                    "| %-27s | %-10s | %-7d | %-12.3f | %-12.3f |\n",
+                    runResult.getParams().getParam("implementation"),
+                    runResult.getParams().getParam("size"),
+                    runResult.getParams().getThreads(),
+                    runResult.getSecondaryResults()
+                             .get("profileGet")
+                             .getScore(),
+                    getWriterScore(runResult));
+        }
+    }
+
+    private static double getWriterScore(RunResult runResult) {
+        // With a single thread the group has no writer at all:
+        return runResult.getSecondaryResults()
+                        .containsKey("profileAddAtIndexOrRemoveAt") ?
+                runResult.getSecondaryResults()
+                         .get("profileAddAtIndexOrRemoveAt")
+                         .getScore() :
+                0.0;
+    }
+}
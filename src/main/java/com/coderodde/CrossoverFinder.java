@@ -0,0 +1,234 @@
+package com.coderodde;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Locates, for every benchmark in {@link IndexedLinkedListPerformance}, the
+ * list size at which one implementation overtakes another. Both
+ * implementations are measured at the ends of a size range; if the faster one
+ * differs, the range is bisected geometrically until its ends are within
+ * {@value #SIZE_PRECISION} of each other, so that only a handful of sizes are
+ * run per operation instead of a full sweep.
+ * <p>
+ * The options are {@code --implementation=<name>} (default
+ * {@code IndexedLinkedList}), {@code --rivals=<name>,<name>} (default
+ * {@code ArrayList,TreeList}), {@code --from=<size>} and {@code --to=<size>}
+ * (default 1000 and 10000000), {@code --operations=<benchmark>,<benchmark>}
+ * (default: all of them), {@code --distribution=<IndexDistribution>}
+ * (default {@code UNIFORM}) and {@code --profile=quick|rigorous}.
+ */
+public final class CrossoverFinder {
+
+    private static final String IMPLEMENTATION_OPTION = "--implementation=";
+    private static final String RIVALS_OPTION         = "--rivals=";
+    private static final String FROM_OPTION           = "--from=";
+    private static final String TO_OPTION             = "--to=";
+    private static final String OPERATIONS_OPTION     = "--operations=";
+    private static final String PROFILE_OPTION        = "--profile=";
+    private static final String DISTRIBUTION_OPTION   = "--distribution=";
+
+    private static final double SIZE_PRECISION = 1.1;
+
+    private static final String ROW_FORMAT =
+            "| %-30s | %-25s | %-25s | %-21s | %-25s | %-25s |";
+
+    private final List<String> implementations;
+    private final IndexDistribution distribution;
+    private final RunProfile runProfile;
+
+    /**
+     * Maps "operation/size" to the scores of all compared implementations.
+     */
+    private final Map<String, Map<String, Double>> scoreCache =
+            new HashMap<>();
+
+    private CrossoverFinder(List<String> implementations,
+                            IndexDistribution distribution,
+                            RunProfile runProfile) {
+        this.implementations = implementations;
+        this.distribution = distribution;
+        this.runProfile = runProfile;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String implementation = "IndexedLinkedList";
+        List<String> rivals = Arrays.asList("ArrayList", "TreeList");
+        int from = 1_000;
+        int to = 10_000_000;
+        List<String> operations = getOperations();
+        IndexDistribution distribution = IndexDistribution.UNIFORM;
+        RunProfile runProfile = RunProfile.QUICK;
+
+        for (String arg : args) {
+            if (arg.startsWith(IMPLEMENTATION_OPTION)) {
+                implementation = arg.substring(IMPLEMENTATION_OPTION.length());
+            } else if (arg.startsWith(RIVALS_OPTION)) {
+                rivals = Arrays.asList(
+                        arg.substring(RIVALS_OPTION.length()).split(","));
+            } else if (arg.startsWith(FROM_OPTION)) {
+                from = Integer.parseInt(arg.substring(FROM_OPTION.length()));
+            } else if (arg.startsWith(TO_OPTION)) {
+                to = Integer.parseInt(arg.substring(TO_OPTION.length()));
+            } else if (arg.startsWith(OPERATIONS_OPTION)) {
+                operations = Arrays.asList(
+                        arg.substring(OPERATIONS_OPTION.length()).split(","));
+            } else if (arg.startsWith(DISTRIBUTION_OPTION)) {
+                distribution = IndexDistribution.valueOf(
+                        arg.substring(DISTRIBUTION_OPTION.length()));
+            } else if (arg.startsWith(PROFILE_OPTION)) {
+                runProfile = RunProfile.forName(
+                        arg.substring(PROFILE_OPTION.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        if (from < 1 || from >= to) {
+            throw new IllegalArgumentException(
+                    "Bad size range: [" + from + ", " + to + "]");
+        }
+
+        List<String> implementations = new ArrayList<>();
+        implementations.add(implementation);
+        implementations.addAll(rivals);
+
+        CrossoverFinder finder =
+                new CrossoverFinder(implementations, distribution, runProfile);
+        List<String> rows = new ArrayList<>();
+
+        for (String operation : operations) {
+            for (String rival : rivals) {
+                rows.add(finder.findCrossover(operation,
+                                              implementation,
+                                              rival,
+                                              from,
+                                              to));
+            }
+        }
+
+        System.out.println("--- Crossovers " +
+                           "(operation, implementation, rival, " +
+                           "crossover size, faster below, faster above):");
+
+        for (String row : rows) {
+            System.out.println(row);
+        }
+    }
+
+    private String findCrossover(String operation,
+                                 String implementation,
+                                 String rival,
+                                 int from,
+                                 int to) throws RunnerException {
+        boolean fasterAtFrom = isFaster(operation, implementation, rival, from);
+        boolean fasterAtTo = isFaster(operation, implementation, rival, to);
+        String winnerBelow = fasterAtFrom ? implementation : rival;
+        String winnerAbove = fasterAtTo ? implementation : rival;
+
+        if (fasterAtFrom == fasterAtTo) {
+            return String.format(ROW_FORMAT,
+                                 operation,
+                                 implementation,
+                                 rival,
+                                 "none in [" + from + ", " + to + "]",
+                                 winnerBelow,
+                                 winnerAbove);
+        }
+
+        int lower = from;
+        int upper = to;
+
+        // Invariant: the faster implementation at 'lower' is the one at
+        // 'from', and the one at 'upper' is the one at 'to':
+        while ((double) upper / lower > SIZE_PRECISION && upper - lower > 1) {
+            int middle = (int) Math.round(Math.sqrt((double) lower * upper));
+            middle = Math.max(lower + 1, Math.min(upper - 1, middle));
+
+            if (isFaster(operation, implementation, rival, middle)
+                    == fasterAtFrom) {
+                lower = middle;
+            } else {
+                upper = middle;
+            }
+        }
+
+        return String.format(ROW_FORMAT,
+                             operation,
+                             implementation,
+                             rival,
+                             lower + ".." + upper,
+                             winnerBelow,
+                             winnerAbove);
+    }
+
+    private boolean isFaster(String operation,
+                             String implementation,
+                             String rival,
+                             int size) throws RunnerException {
+        Map<String, Double> scores = getScores(operation, size);
+        return scores.get(implementation) < scores.get(rival);
+    }
+
+    private Map<String, Double> getScores(String operation, int size)
+            throws RunnerException {
+        String key = operation + "/" + size;
+        Map<String, Double> scores = scoreCache.get(key);
+
+        if (scores != null) {
+            return scores;
+        }
+
+        // All compared implementations are run together so that each size
+        // is measured only once per operation:
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(IndexedLinkedListPerformance.class.getName()
+                         + "\\." + operation + "$")
+                .jvmArgsPrepend("-server", "-Xms7G", "-Xmx7G")
+                .shouldDoGC(true)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .syncIterations(false)
+                .param("implementation",
+                       new TreeSet<>(implementations).toArray(new String[0]))
+                .param("size", Integer.toString(size))
+                .param("distribution", distribution.name());
+
+        runProfile.apply(optionsBuilder);
+
+        scores = new HashMap<>();
+
+        for (RunResult runResult :
+                BenchmarkLauncher.run(optionsBuilder.build())) {
+            scores.put(runResult.getParams().getParam("implementation"),
+                       runResult.getPrimaryResult().getScore());
+        }
+
+        scoreCache.put(key, scores);
+        return scores;
+    }
+
+    private static List<String> getOperations() {
+        List<String> operations = new ArrayList<>();
+
+        for (Method method
+                : IndexedLinkedListPerformance.class.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Benchmark.class)) {
+                operations.add(method.getName());
+            }
+        }
+
+        operations.sort(String::compareTo);
+        return operations;
+    }
+}
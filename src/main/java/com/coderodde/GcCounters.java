@@ -0,0 +1,86 @@
+package com.coderodde;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the number of garbage collections and their accumulated pause
+ * time during each measurement iteration as secondary benchmark results
+ * ({@code :gcCount} and {@code :gcPauseMillis}). Add this state as a
+ * parameter to a benchmark method to get the GC deltas next to its score.
+ * <p>
+ * Collections that complete while a setup runs through
+ * {@link #runExcluded(Runnable)} are not counted. Use it for setups that
+ * run inside a measurement iteration, such as refilling a clone pool per
+ * invocation, so the deltas reflect the workload and not the setup garbage.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class GcCounters {
+
+    private static final List<GarbageCollectorMXBean> GARBAGE_COLLECTORS =
+            ManagementFactory.getGarbageCollectorMXBeans();
+
+    private static final AtomicLong EXCLUDED_COUNT = new AtomicLong();
+    private static final AtomicLong EXCLUDED_MILLIS = new AtomicLong();
+
+    private long startCount;
+    private long startMillis;
+
+    @Setup(Level.Iteration)
+    public void start() {
+        startCount = getTotalCount() - EXCLUDED_COUNT.get();
+        startMillis = getTotalMillis() - EXCLUDED_MILLIS.get();
+    }
+
+    public long gcCount() {
+        return getTotalCount() - EXCLUDED_COUNT.get() - startCount;
+    }
+
+    public long gcPauseMillis() {
+        return getTotalMillis() - EXCLUDED_MILLIS.get() - startMillis;
+    }
+
+    /**
+     * Runs {@code setup} and excludes the collections completing meanwhile
+     * from the counters.
+     *
+     * @param setup the setup code to run.
+     */
+    public static void runExcluded(Runnable setup) {
+        long count = getTotalCount();
+        long millis = getTotalMillis();
+
+        setup.run();
+
+        EXCLUDED_COUNT.addAndGet(getTotalCount() - count);
+        EXCLUDED_MILLIS.addAndGet(getTotalMillis() - millis);
+    }
+
+    private static long getTotalCount() {
+        long count = 0L;
+
+        for (GarbageCollectorMXBean garbageCollector : GARBAGE_COLLECTORS) {
+            count += Math.max(0L, garbageCollector.getCollectionCount());
+        }
+
+        return count;
+    }
+
+    private static long getTotalMillis() {
+        long millis = 0L;
+
+        for (GarbageCollectorMXBean garbageCollector : GARBAGE_COLLECTORS) {
+            millis += Math.max(0L, garbageCollector.getCollectionTime());
+        }
+
+        return millis;
+    }
+}
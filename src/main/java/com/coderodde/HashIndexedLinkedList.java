@@ -0,0 +1,645 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A doubly-linked list with a finger index for positional access, as in
+ * {@link AbstractIntIndexedLinkedList}, and a hash multimap from each
+ * distinct element to the nodes holding it. The nodes holding equal elements
+ * are chained through extra links, so the multimap stores a single entry per
+ * distinct element.
+ * <p>
+ * {@link #contains(Object)} is a hash lookup. {@link #indexOf(Object)},
+ * {@link #lastIndexOf(Object)} and {@link #remove(Object)} find the nodes
+ * through the multimap and compute their positions by walking to the nearest
+ * finger, which takes {@code O(sqrt(size))} steps per equal element instead
+ * of a linear scan. The price is two extra links and a finger slot per node
+ * plus one hash map entry per distinct element; {@link MemoryFootprint}
+ * reports it.
+ *
+ * @param <E> the element type.
+ */
+public final class HashIndexedLinkedList<E> extends AbstractList<E> {
+
+    private static final class Node<E> {
+        E item;
+        Node<E> prev;
+        Node<E> next;
+
+        /**
+         * The neighbours in the chain of the nodes holding equal elements.
+         */
+        Node<E> prevEqual;
+        Node<E> nextEqual;
+
+        /**
+         * The position of a finger pointing at this node, or -1.
+         */
+        int finger = -1;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+
+    private final Map<Object, Node<E>> equalChains = new HashMap<>();
+
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+
+    private Node<E>[] fingerNodes = newNodeArray(0);
+    private int[] fingerIndices   = new int[0];
+    private int fingerCount;
+
+    /**
+     * The number of structural modifications since the last redistribution
+     * of the fingers.
+     */
+    private int modifications;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return node(index).item;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        return setItem(node(index), element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        Node<E> node = new Node<>(element);
+        linkBefore(node, null);
+        linkEqual(node);
+        ++modifications;
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        insertBefore(new Node<>(element), node(index), index);
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        Node<E> node = node(index);
+        removeNode(node, index);
+        return node.item;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Node<E> node = firstNode(o);
+
+        if (node == null) {
+            return false;
+        }
+
+        removeNode(node, indexOfNode(node));
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return equalChains.containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Node<E> node = firstNode(o);
+        return node == null ? -1 : indexOfNode(node);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int lastIndex = -1;
+
+        for (Node<E> node = equalChains.get(o);
+                node != null;
+                node = node.nextEqual) {
+            lastIndex = Math.max(lastIndex, indexOfNode(node));
+        }
+
+        return lastIndex;
+    }
+
+    /**
+     * Removes all occurrences of the elements of {@code c}. A small
+     * collection is looked up in the multimap, so the cost depends on the
+     * number of removed elements rather than on the list size; equality is
+     * then decided by this list's elements. A large one is handed to
+     * {@link #removeIf(Predicate)}.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c, "c");
+
+        // Each multimap removal walks and shifts O(sqrt(size)) fingers:
+        if ((long) c.size() * (long) Math.sqrt(size) >= size) {
+            return removeIf(c::contains);
+        }
+
+        int oldSize = size;
+
+        for (Object o : c) {
+            Node<E> node;
+
+            while ((node = equalChains.get(o)) != null) {
+                removeNode(node, indexOfNode(node));
+            }
+        }
+
+        return size != oldSize;
+    }
+
+    /**
+     * Unlinks the matching nodes in one pass and redistributes the fingers
+     * afterwards.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "filter");
+        int oldSize = size;
+
+        try {
+            for (Node<E> node = head; node != null; node = node.next) {
+                if (filter.test(node.item)) {
+                    unlinkEqual(node);
+                    unlink(node);
+                }
+            }
+        } finally {
+            if (size != oldSize) {
+                clearFingers();
+                ++modifications;
+                ++modCount;
+            }
+        }
+
+        return size != oldSize;
+    }
+
+    @Override
+    public void clear() {
+        equalChains.clear();
+        head = null;
+        tail = null;
+        size = 0;
+        clearFingers();
+        modifications = 0;
+        ++modCount;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new NodeIterator(index);
+    }
+
+    private E setItem(Node<E> node, E element) {
+        E oldElement = node.item;
+        unlinkEqual(node);
+        node.item = element;
+        linkEqual(node);
+        return oldElement;
+    }
+
+    /**
+     * Links {@code node} before {@code successor}, which is at position
+     * {@code index}.
+     */
+    private void insertBefore(Node<E> node, Node<E> successor, int index) {
+        linkBefore(node, successor);
+        linkEqual(node);
+
+        for (int i = firstFingerAtOrAfter(index); i < fingerCount; ++i) {
+            ++fingerIndices[i];
+        }
+
+        ++modifications;
+        ++modCount;
+    }
+
+    private void removeNode(Node<E> node, int index) {
+        for (int i = firstFingerAtOrAfter(index); i < fingerCount; ++i) {
+            if (fingerNodes[i] != node) {
+                --fingerIndices[i];
+            } else if (node.next != null) {
+                // The successor inherits both the finger and the position:
+                moveFinger(i, node.next);
+            } else {
+                moveFinger(i, node.prev);
+                fingerIndices[i] = index - 1;
+            }
+        }
+
+        node.finger = -1;
+        unlinkEqual(node);
+        unlink(node);
+
+        if (size == 0) {
+            clearFingers();
+        }
+
+        ++modifications;
+        ++modCount;
+    }
+
+    private void moveFinger(int finger, Node<E> node) {
+        fingerNodes[finger] = node;
+
+        if (node != null && node.finger < 0) {
+            node.finger = finger;
+        }
+    }
+
+    /**
+     * Links {@code node} before {@code successor}, or last if
+     * {@code successor} is {@code null}.
+     */
+    private void linkBefore(Node<E> node, Node<E> successor) {
+        Node<E> predecessor = successor == null ? tail : successor.prev;
+        node.prev = predecessor;
+        node.next = successor;
+
+        if (predecessor == null) {
+            head = node;
+        } else {
+            predecessor.next = node;
+        }
+
+        if (successor == null) {
+            tail = node;
+        } else {
+            successor.prev = node;
+        }
+
+        ++size;
+    }
+
+    private void unlink(Node<E> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        --size;
+    }
+
+    private void linkEqual(Node<E> node) {
+        Node<E> first = equalChains.put(node.item, node);
+        node.nextEqual = first;
+
+        if (first != null) {
+            first.prevEqual = node;
+        }
+    }
+
+    private void unlinkEqual(Node<E> node) {
+        if (node.prevEqual != null) {
+            node.prevEqual.nextEqual = node.nextEqual;
+        } else if (node.nextEqual != null) {
+            equalChains.put(node.item, node.nextEqual);
+        } else {
+            equalChains.remove(node.item);
+        }
+
+        if (node.nextEqual != null) {
+            node.nextEqual.prevEqual = node.prevEqual;
+        }
+
+        node.prevEqual = null;
+        node.nextEqual = null;
+    }
+
+    /**
+     * Returns the node holding the first occurrence of {@code o}, or
+     * {@code null} if there is none.
+     */
+    private Node<E> firstNode(Object o) {
+        Node<E> node = equalChains.get(o);
+
+        if (node == null || node.nextEqual == null) {
+            return node;
+        }
+
+        Node<E> firstNode = node;
+        int firstIndex = indexOfNode(node);
+
+        for (node = node.nextEqual; node != null; node = node.nextEqual) {
+            int index = indexOfNode(node);
+
+            if (index < firstIndex) {
+                firstIndex = index;
+                firstNode = node;
+            }
+        }
+
+        return firstNode;
+    }
+
+    /**
+     * Returns the position of {@code node}, walking in both directions until
+     * reaching a finger or an end of the list.
+     */
+    private int indexOfNode(Node<E> node) {
+        if (modifications > fingerCount) {
+            distributeFingers();
+        }
+
+        Node<E> forward = node;
+        Node<E> backward = node;
+
+        for (int distance = 0; ; ++distance) {
+            if (forward == null) {
+                return size - distance;
+            }
+
+            if (forward.finger >= 0) {
+                return fingerIndices[forward.finger] - distance;
+            }
+
+            if (backward == null) {
+                return distance - 1;
+            }
+
+            if (backward.finger >= 0) {
+                return fingerIndices[backward.finger] + distance;
+            }
+
+            forward = forward.next;
+            backward = backward.prev;
+        }
+    }
+
+    /**
+     * Returns the node at position {@code index}, walking from the closest
+     * known position.
+     */
+    private Node<E> node(int index) {
+        if (modifications > fingerCount) {
+            distributeFingers();
+        }
+
+        Node<E> startNode;
+        int startIndex;
+
+        if (index < size - index) {
+            startNode = head;
+            startIndex = 0;
+        } else {
+            startNode = tail;
+            startIndex = size - 1;
+        }
+
+        int fingerIndex = firstFingerAtOrAfter(index);
+
+        if (fingerIndex < fingerCount
+                && fingerIndices[fingerIndex] - index
+                 < Math.abs(startIndex - index)) {
+            startNode = fingerNodes[fingerIndex];
+            startIndex = fingerIndices[fingerIndex];
+        }
+
+        if (fingerIndex > 0
+                && index - fingerIndices[fingerIndex - 1]
+                 < Math.abs(startIndex - index)) {
+            startNode = fingerNodes[fingerIndex - 1];
+            startIndex = fingerIndices[fingerIndex - 1];
+        }
+
+        Node<E> node = startNode;
+
+        for (int i = startIndex; i < index; ++i) {
+            node = node.next;
+        }
+
+        for (int i = startIndex; i > index; --i) {
+            node = node.prev;
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the position of the first finger pointing at or after
+     * {@code index}, or {@code fingerCount} if there is no such finger.
+     */
+    private int firstFingerAtOrAfter(int index) {
+        int low = 0;
+        int high = fingerCount;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (fingerIndices[middle] < index) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E>[] newNodeArray(int length) {
+        return (Node<E>[]) new Node<?>[length];
+    }
+
+    /**
+     * Spreads {@code ceil(sqrt(size))} fingers evenly over the list.
+     */
+    private void distributeFingers() {
+        clearFingers();
+        fingerCount = (int) Math.ceil(Math.sqrt(size));
+
+        if (fingerNodes.length < fingerCount) {
+            fingerNodes = newNodeArray(fingerCount);
+            fingerIndices = new int[fingerCount];
+        }
+
+        Node<E> node = head;
+        int index = 0;
+
+        for (int i = 0; i < fingerCount; ++i) {
+            int fingerIndex = (int) ((long) i * size / fingerCount);
+
+            while (index < fingerIndex) {
+                node = node.next;
+                ++index;
+            }
+
+            fingerNodes[i] = node;
+            fingerIndices[i] = index;
+
+            if (node.finger < 0) {
+                node.finger = i;
+            }
+        }
+
+        modifications = 0;
+    }
+
+    private void clearFingers() {
+        for (int i = 0; i < fingerCount; ++i) {
+            if (fingerNodes[i] != null) {
+                fingerNodes[i].finger = -1;
+                fingerNodes[i] = null;
+            }
+        }
+
+        fingerCount = 0;
+    }
+
+    private final class NodeIterator implements ListIterator<E> {
+
+        private Node<E> nextNode;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        NodeIterator(int nextIndex) {
+            this.nextNode = nextIndex == size ? null : node(nextIndex);
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (nextIndex >= size) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            ++nextIndex;
+            return lastReturned.item;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+
+            nextNode = nextNode == null ? tail : nextNode.prev;
+            lastReturned = nextNode;
+            --nextIndex;
+            return lastReturned.item;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            if (lastReturned == nextNode) {
+                // Removing after previous():
+                nextNode = nextNode.next;
+                removeNode(lastReturned, nextIndex);
+            } else {
+                removeNode(lastReturned, --nextIndex);
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            setItem(lastReturned, element);
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+
+            if (nextNode == null) {
+                HashIndexedLinkedList.this.add(element);
+            } else {
+                insertBefore(new Node<>(element), nextNode, nextIndex);
+            }
+
+            ++nextIndex;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.coderodde;
+
+import java.util.Random;
+
+/**
+ * The distributions the positional workloads draw their list indices from.
+ * Finger and cursor based lists reach an index faster the closer it is to the
+ * previously accessed one, so the distribution matters as much as the list
+ * size. Each constant creates an {@link IndexSequence}, which may keep state
+ * between the indices it returns.
+ */
+public enum IndexDistribution {
+
+    /**
+     * Every index is equally likely.
+     */
+    UNIFORM {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return (bound) -> random.nextInt(bound);
+        }
+    },
+
+    /**
+     * Zipfian popularity with exponent 1, the ranks scattered over the list
+     * by a multiplicative hash, as in YCSB's scrambled Zipfian generator.
+     */
+    ZIPFIAN {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return (bound) -> (int) ((getPowerLawRank(random, bound)
+                                      * ZIPFIAN_SCRAMBLE_MULTIPLIER) % bound);
+        }
+    },
+
+    /**
+     * {@value #HOTSPOT_OPERATION_PERCENTAGE}% of the indices fall into the
+     * middle {@value #HOTSPOT_PERCENTAGE}% of the list, the rest anywhere.
+     */
+    HOTSPOT {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return (bound) -> {
+                if (random.nextInt(100) >= HOTSPOT_OPERATION_PERCENTAGE) {
+                    return random.nextInt(bound);
+                }
+
+                int hotspotSize =
+                        Math.max(1, (int) ((long) bound
+                                           * HOTSPOT_PERCENTAGE / 100));
+                return (bound - hotspotSize) / 2
+                        + random.nextInt(hotspotSize);
+            };
+        }
+    },
+
+    /**
+     * Walks the list forward from a random start, each step jittered by up
+     * to {@value #SEQUENTIAL_JITTER} positions in either direction, and
+     * wraps around at the end.
+     */
+    SEQUENTIAL {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return new IndexSequence() {
+                private int position = -1;
+
+                @Override
+                public int nextIndex(int bound) {
+                    if (position < 0) {
+                        position = random.nextInt(bound);
+                    } else {
+                        position += 1 + random.nextInt(2 * SEQUENTIAL_JITTER
+                                                       + 1)
+                                      - SEQUENTIAL_JITTER;
+                    }
+
+                    position = Math.floorMod(position, bound);
+                    return position;
+                }
+            };
+        }
+    },
+
+    /**
+     * Uniform within a window of {@value #SLIDING_WINDOW_SIZE} positions
+     * that slides forward by one position per index and wraps around.
+     */
+    SLIDING_WINDOW {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return new IndexSequence() {
+                private int windowStart = -1;
+
+                @Override
+                public int nextIndex(int bound) {
+                    windowStart = windowStart < 0 ?
+                                  random.nextInt(bound) :
+                                  windowStart + 1;
+
+                    int windowSize = Math.min(bound, SLIDING_WINDOW_SIZE);
+                    return (int) (((long) windowStart
+                                   + random.nextInt(windowSize)) % bound);
+                }
+            };
+        }
+    },
+
+    /**
+     * Close to either end of the list with equal probability; the distance
+     * from the end follows the same power law as {@link #ZIPFIAN}, so most
+     * indices are within a few positions of the head or the tail.
+     */
+    HEAD_TAIL {
+        @Override
+        public IndexSequence newSequence(Random random) {
+            return (bound) -> {
+                int distance = (int) getPowerLawRank(random, bound);
+                return random.nextBoolean() ? distance : bound - 1 - distance;
+            };
+        }
+    };
+
+    private static final int HOTSPOT_PERCENTAGE           = 10;
+    private static final int HOTSPOT_OPERATION_PERCENTAGE = 90;
+    private static final int SEQUENTIAL_JITTER            = 8;
+    private static final int SLIDING_WINDOW_SIZE          = 1024;
+
+    // A prime larger than any list size, so that the scrambling is a
+    // permutation of [0, bound):
+    private static final long ZIPFIAN_SCRAMBLE_MULTIPLIER = 2_654_435_761L;
+
+    /**
+     * Creates a new sequence of indices drawn from this distribution.
+     *
+     * @param random the source of randomness.
+     * @return a new index sequence.
+     */
+    public abstract IndexSequence newSequence(Random random);
+
+    /**
+     * Returns a rank in {@code [0, bound)} whose probability is roughly
+     * proportional to {@code 1 / (rank + 1)}, by inverting the continuous
+     * power law with exponent 1.
+     */
+    private static long getPowerLawRank(Random random, int bound) {
+        long rank = (long) Math.pow(bound + 1, random.nextDouble()) - 1;
+        return Math.min(rank, bound - 1);
+    }
+
+    /**
+     * A source of list indices.
+     */
+    @FunctionalInterface
+    public interface IndexSequence {
+
+        /**
+         * Returns the next index in {@code [0, bound)}.
+         *
+         * @param bound the exclusive upper bound, usually the list size.
+         * @return the next index.
+         */
+        int nextIndex(int bound);
+    }
+}
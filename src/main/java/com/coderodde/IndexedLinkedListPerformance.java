@@ -1,192 +1,176 @@
 package com.coderodde;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
-import com.github.coderodde.util.IndexedLinkedList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
-import org.apache.commons.collections4.list.CursorableLinkedList;
-import org.apache.commons.collections4.list.NodeCachingLinkedList;
+import java.util.function.Supplier;
+import com.coderodde.IndexDistribution.IndexSequence;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.apache.commons.collections4.list.TreeList;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.Defaults;
+import org.openjdk.jmh.results.IterationResult;
 import org.openjdk.jmh.results.Result;
 import org.openjdk.jmh.results.RunResult;
-import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
-import org.openjdk.jmh.runner.options.TimeValue;
 
 @State(Scope.Thread)
 public class IndexedLinkedListPerformance {
 
-    // Small data:
-//    private static final int ADD_FIRST_OPERATIONS           = 1_000;
-//    private static final int ADD_LAST_OPERATIONS            = 1_000;
-//    private static final int ADD_AT_OPERATIONS              = 1_000;
-//    private static final int ADD_COLLECTION_AT_OPERATIONS   = 1_000;
-//    private static final int ADD_COLLECTION_OPERATIONS      = 1_000;
-//    private static final int REMOVE_COLLECTION_SIZE         = 10_000;
-//    private static final int REMOVE_OBJECT_OPERATIONS       = 1_000;
-//    private static final int REMOVE_ALL_SIZE                = 10_000;
-//    private static final int REMOEVE_COLLECTION_CAPACITY    = 2_000;
-//    private static final int GET_SIZE                       = 10_000;
-//    private static final int GET_OPERATIONS                 = 1_000;
-//    private static final int CLEAR_LIST_SIZE                = 50_000;
-//    private static final int CLEAR_RANGE_SIZE               = 49_000;
-//    private static final int SORT_LIST_SIZE                 = 10_000;
-//    private static final int CACHE_NODES                    = 500;
-
-    // Medium size data:
-//    private static final int ADD_FIRST_OPERATIONS           = 3_000;
-//    private static final int ADD_LAST_OPERATIONS            = 3_000;
-//    private static final int ADD_AT_OPERATIONS              = 3_000;
-//    private static final int ADD_COLLECTION_AT_OPERATIONS   = 3_000;
-//    private static final int ADD_COLLECTION_OPERATIONS      = 3_000;
-//    private static final int REMOVE_COLLECTION_SIZE         = 30_000;
-//    private static final int REMOVE_OBJECT_OPERATIONS       = 3_000;
-//    private static final int REMOVE_ALL_SIZE                = 30_000;
-//    private static final int REMOEVE_COLLECTION_CAPACITY    = 6_000;
-//    private static final int GET_SIZE                       = 30_000;
-//    private static final int GET_OPERATIONS                 = 3_000;
-//    private static final int CLEAR_LIST_SIZE                = 100_000;
-//    private static final int CLEAR_RANGE_SIZE               = 99_000;
-//    private static final int SORT_LIST_SIZE                 = 50_000;
-//    private static final int CACHE_NODES                    = 1500;
-    
-    // Larger data:
-    private static final int ADD_FIRST_OPERATIONS           = 5_000;
-    private static final int ADD_LAST_OPERATIONS            = 5_000;
-    private static final int ADD_AT_OPERATIONS              = 5_000;
-    private static final int ADD_COLLECTION_AT_OPERATIONS   = 5_000;
-    private static final int ADD_COLLECTION_OPERATIONS      = 5_000;
-    private static final int REMOVE_COLLECTION_SIZE         = 50_000;
-    private static final int REMOVE_OBJECT_OPERATIONS       = 5_000;
-    private static final int REMOVE_ALL_SIZE                = 50_000;
-    private static final int REMOEVE_COLLECTION_CAPACITY    = 10_000;
-    private static final int GET_SIZE                       = 50_000;
-    private static final int GET_OPERATIONS                 = 5_000;
-    private static final int CLEAR_LIST_SIZE                = 150_000;
-    private static final int CLEAR_RANGE_SIZE               = 149_000;
-    private static final int SORT_LIST_SIZE                 = 150_000;
-    private static final int CACHE_NODES                    = 3_000;
+    // All workloads are sized by ListState.size; the operation counts and the
+    // auxiliary sizes are derived from it using the ratios of the former
+    // hard-coded presets:
+    private static final int OPERATIONS_DIVISOR                 = 10;
+    private static final int REMOVE_COLLECTION_CAPACITY_DIVISOR = 5;
+    private static final int CLEAR_RANGE_REMAINDER_DIVISOR      = 150;
+
+    // The consuming benchmarks prebuild their lists in batches of at most
+    // this many elements in total, and at least one list:
+    private static final int CLONE_POOL_ELEMENTS = 4_000_000;
 
     private static final int MAXIMUM_INTEGER         = 1_000;
     private static final int MAXIMUM_COLLECTION_SIZE = 20;
 
-    private static final long seed = System.currentTimeMillis();
-
-    //// State get /////////////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateGet {
-        public List<Integer> list;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            random = new Random(seed);
+    // profileIterateAndModify inserts after the current element if a random
+    // double is above the first threshold, and removes the current element if
+    // it is below the second one:
+    private static final double ITERATE_AND_MODIFY_ADD_THRESHOLD    = 0.7;
+    private static final double ITERATE_AND_MODIFY_REMOVE_THRESHOLD = 0.3;
+
+    // profileClusteredEdit moves its cursor to a random index every so many
+    // edits, and each edit deletes the element in front of the cursor with
+    // the given probability, inserting at the cursor otherwise:
+    private static final int    CLUSTERED_EDIT_BURST_LENGTH       = 32;
+    private static final double CLUSTERED_EDIT_REMOVE_PROBABILITY = 0.3;
+
+    // Labels of the GCProfiler secondary results printed by main():
+    private static final String ALLOCATION_RATE_LABEL = 
+            Defaults.PREFIX + "gc.alloc.rate.norm";
+    private static final String CHURN_LABEL_PREFIX = 
+            Defaults.PREFIX + "gc.churn.";
+    private static final String CHURN_LABEL_SUFFIX = ".norm";
+    private static final String GC_COUNT_LABEL = Defaults.PREFIX + "gc.count";
+
+    // Command line options of main():
+    private static final String BASELINE_OPTION      = "--baseline=";
+    private static final String BASELINE_SIZE_OPTION = "--baseline-size=";
+    private static final String THRESHOLD_OPTION     = "--threshold=";
+    private static final String PROFILE_OPTION       = "--profile=";
+
+    // Iteration scores beyond this many interquartile ranges from the
+    // quartiles count as outliers (Tukey's fences):
+    private static final double OUTLIER_IQR_FACTOR = 1.5;
+
+    private static final double DEFAULT_REGRESSION_THRESHOLD = 0.1;
 
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
-        }
-    }
+    private static final long seed = System.currentTimeMillis();
 
+    //// State list ////////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class ArrayListStateGet {
-        public List<Integer> list;
-        public Random random;
+    public static class ListState {
+
+        /**
+         * The name of the benchmarked list implementation as registered in 
+         * {@link ListImplementations}. The values below are the built-in
+         * implementations; {@link BenchmarkLauncher}, which every
+         * {@code main} and the benchmark jar run through, replaces them with
+         * every registered implementation, including those plugged in via
+         * {@link ListProvider}.
+         */
+        @Param({"IndexedLinkedList", 
+                "ArrayList", 
+                "LinkedList", 
+                "TreeList", 
+                "NodeCachingLinkedList", 
+                "CursorableLinkedList",
+                "UnrolledLinkedList",
+                "CircularGapList",
+                "BTreeList",
+                "HashIndexedLinkedList"})
+        public String implementation;
+
+        /**
+         * The number of elements in the benchmarked lists. Override with
+         * {@code -p size=...} to narrow or extend the sweep.
+         */
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        public int size;
+
+        public Supplier<List<Integer>> factory;
 
         @Setup(Level.Trial)
         public void setup() {
-            list = new ArrayList<>();
-            random = new Random(seed);
-
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
+            factory = ListImplementations.getFactory(implementation, size);
+            populate();
         }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateGet {
-        public List<Integer> list;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            random = new Random(seed);
 
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
+        protected void populate() {
         }
     }
+    ////////////////////////////////////////////////////////////////////////////
 
-    @State(Scope.Benchmark)
-    public static class TreeListStateGet {
-        public List<Integer> list;
-        public Random random;
 
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            random = new Random(seed);
+    //// State indexDistribution ///////////////////////////////////////////////
+    @State(Scope.Thread)
+    public static class IndexDistributionState {
 
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
-        }
+        /**
+         * The distribution the positional workloads draw their indices from.
+         */
+        @Param({"UNIFORM", 
+                "ZIPFIAN", 
+                "HOTSPOT", 
+                "SEQUENTIAL", 
+                "SLIDING_WINDOW", 
+                "HEAD_TAIL"})
+        public IndexDistribution distribution;
     }
+    ////////////////////////////////////////////////////////////////////////////
 
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateGet {
-        public List<Integer> list;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            random = new Random(seed);
-
-            for (int i = 0; i < GET_SIZE; ++i) {
-                list.add(i);
-            }
-        }
-    }
 
+    //// State get /////////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateGet {
+    public static class GetState extends ListState {
         public List<Integer> list;
         public Random random;
 
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
+        @Override
+        protected void populate() {
+            list = factory.get();
             random = new Random(seed);
 
-            for (int i = 0; i < GET_SIZE; ++i) {
+            for (int i = 0; i < size; ++i) {
                 list.add(i);
             }
         }
@@ -194,1979 +178,711 @@ public class IndexedLinkedListPerformance {
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeFirst /////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveFirst {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveFirst {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
+    //// State content /////////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveFirst {
+    public static class ContentState extends ListState {
         public List<Integer> list;
         public List<Integer> contentList;
+        public Random random;
 
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveFirst {
-        public List<Integer> list;
-        public List<Integer> contentList;
+        // Lists holding contentList, built outside the measured region and
+        // handed out one per invocation:
+        private final Deque<List<Integer>> clonePool = new ArrayDeque<>();
 
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+        @Override
+        protected void populate() {
+            contentList = new ArrayList<>(size);
+            random = new Random(seed);
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
+            for (int i = 0; i < size; ++i) {
                 contentList.add(i);
             }
         }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveFirst {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
+        /**
+         * Hands a fresh copy of {@link #contentList} to the next invocation,
+         * so that the benchmarks that consume their list measure only the
+         * operation under test and not rebuilding the list.
+         */
+        @Setup(Level.Invocation)
+        public void restoreList() {
+            if (clonePool.isEmpty()) {
+                int capacity = getClonePoolCapacity(size);
+
+                for (int i = 0; i < capacity; ++i) {
+                    List<Integer> clone = factory.get();
+                    clone.addAll(contentList);
+                    clonePool.addLast(clone);
+                }
             }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveFirst {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+            list = clonePool.removeFirst();
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeLast //////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
+    //// State sortRange ///////////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveLast {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
+    public static class SortRangeState extends ContentState {
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Override
+        protected void populate() {
+            super.populate();
+            Random random = new Random(seed + 3);
+            Collections.shuffle(contentList, random);
         }
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// State removeAt ////////////////////////////////////////////////////////
+    //// State iterateAndModify ////////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+    public static class IterateAndModifyState extends ContentState {
+        public UniformRandomProvider rng;
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+        @Override
+        protected void populate() {
+            super.populate();
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create(seed);
         }
     }
+    ////////////////////////////////////////////////////////////////////////////
 
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
 
+    //// State removeInCollection //////////////////////////////////////////////
     @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
+    public static class RemoveInCollectionState extends ContentState {
+        public Set<Integer> set;
 
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
+        @Override
+        protected void populate() {
+            super.populate();
+            set = new HashSet<>();
 
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
+            Random random = new Random(seed + 3);
+            int capacity = getRemoveCollectionCapacity(size);
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
+            while (set.size() < capacity) {
+                set.add(random.nextInt(contentList.size() + 100));
             }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
 
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
+            Collections.shuffle(contentList, random);
         }
     }
+    ////////////////////////////////////////////////////////////////////////////
 
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveAt {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// State removeObject ////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveObject {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Random random;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_COLLECTION_SIZE);
-            random = new Random(seed);
-
-            for (int i = 0; i < REMOVE_COLLECTION_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// State removeRange /////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(CLEAR_LIST_SIZE);
-
-            for (int i = 0; i < CLEAR_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-        }
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// State sortRange ///////////////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateSortRange {
-        public List<Integer> list;
-        public List<Integer> contentList;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(SORT_LIST_SIZE);
-
-            for (int i = 0; i < SORT_LIST_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-            Collections.shuffle(contentList, random);
-        }
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// State removeInCollection //////////////////////////////////////////////
-    @State(Scope.Benchmark)
-    public static class IndexedLinkedListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new IndexedLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class ArrayListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new ArrayList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class LinkedListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new LinkedList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class TreeListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new TreeList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class NodeCachingLinkedListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new NodeCachingLinkedList<>(CACHE_NODES);
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-
-    @State(Scope.Benchmark)
-    public static class CursorableLinkedListStateRemoveInCollection {
-        public List<Integer> list;
-        public List<Integer> contentList;
-        public Set<Integer> set;
-
-        @Setup(Level.Trial)
-        public void setup() {
-            list = new CursorableLinkedList<>();
-            contentList = new ArrayList<>(REMOVE_ALL_SIZE);
-            set = new HashSet<>();
-
-            for (int i = 0; i < REMOVE_ALL_SIZE; ++i) {
-                contentList.add(i);
-            }
-
-            Random random = new Random(seed + 3);
-
-            while (set.size() < REMOEVE_COLLECTION_CAPACITY) {
-                set.add(random.nextInt(contentList.size() + 100));
-            }
-
-            Collections.shuffle(contentList, random);
-        }
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-    private static Integer getRandomInteger(Random random) {
-        return random.nextInt(MAXIMUM_INTEGER + 1);
-    }
-
-    //// profileAddFirst ///////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListAddFirst() {
-        profileAddFirst(new IndexedLinkedList<>(), ADD_FIRST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListAddFirst() {
-        profileAddFirst(new LinkedList<>(), ADD_FIRST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListAddFirst() {
-
-        profileAddFirst(new ArrayList<>(), ADD_FIRST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListAddFirst() {
-        profileAddFirst(new TreeList<>(), ADD_FIRST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListAddFirst() {
-        profileAddFirst(new NodeCachingLinkedList<>(CACHE_NODES), 
-                        ADD_FIRST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListAddFirst() {
-        profileAddFirst(new CursorableLinkedList<>(), ADD_FIRST_OPERATIONS);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileAddLast ////////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListAddLast() {
-        profileAddLast(new IndexedLinkedList<>(), ADD_LAST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListAddLast() {
-        profileAddLast(new LinkedList<>(), ADD_LAST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListAddLast() {
-        profileAddLast(new ArrayList<>(), ADD_LAST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListAddLast() {
-        profileAddLast(new TreeList<>(), ADD_LAST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListAddLast() {
-        profileAddLast(new NodeCachingLinkedList<>(CACHE_NODES), 
-                       ADD_LAST_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListAddLast() {
-        profileAddLast(new CursorableLinkedList<>(), ADD_LAST_OPERATIONS);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileAddAtIndex ////////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListAddAtIndex() {
-        profileAddAtIndex(new IndexedLinkedList<>(), ADD_AT_OPERATIONS);
-
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListAddAtIndex() {
-        profileAddAtIndex(new LinkedList<>(), ADD_AT_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListAddAtIndex() {
-        profileAddAtIndex(new ArrayList<>(), ADD_AT_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListAddAtIndex() {
-        profileAddAtIndex(new TreeList<>(), ADD_AT_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListAddAtIndex() {
-        profileAddAtIndex(new NodeCachingLinkedList<>(CACHE_NODES),     
-                          ADD_AT_OPERATIONS);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListAddAtIndex() {
-        profileAddAtIndex(new CursorableLinkedList<>(), ADD_AT_OPERATIONS);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileAddCollection //////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new IndexedLinkedList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new LinkedList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new ArrayList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new TreeList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new NodeCachingLinkedList<>(CACHE_NODES),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListAddCollection() {
-        Random random = new Random(seed + 2);
-        profileAddCollection(new CursorableLinkedList<>(),
-                             ADD_COLLECTION_OPERATIONS, 
-                             random);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileAddCollectionAtIndex ///////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new IndexedLinkedList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new LinkedList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new ArrayList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new TreeList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new NodeCachingLinkedList<>(CACHE_NODES),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListAddCollectionAtIndex() {
-        Random random = new Random(seed + 2);
-        profileAddCollectionAtIndex(new CursorableLinkedList<>(),
-                                    ADD_COLLECTION_AT_OPERATIONS, 
-                                    random);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileRemoveAt ///////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListRemoveAtIndex(
-            IndexedLinkedListStateRemoveAt state,
-            Blackhole blackhole) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListRemoveAtIndex(
-            LinkedListStateRemoveAt state,
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListRemoveAtIndex(ArrayListStateRemoveAt state,
-                                              Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveAtIndex(TreeListStateRemoveAt state, 
-                                             Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveAtIndex(
-            NodeCachingLinkedListStateRemoveAt state, 
-            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveAtIndex(
-            CursorableLinkedListStateRemoveAt state, 
-            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveAt(state.list,
-                        state.random,
-                        blackhole);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileRemoveObject ///////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListRemoveObject(
-            IndexedLinkedListStateRemoveObject state,
-            Blackhole blackhole) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListRemoveObject(
-            LinkedListStateRemoveObject state,
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListRemoveObject(ArrayListStateRemoveObject state,
-                                             Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveObject(TreeListStateRemoveObject state, 
-                                            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveObject(
-            NodeCachingLinkedListStateRemoveObject state,
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveObject(
-            TreeListStateRemoveObject state,
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveObject(state.list, state.random, blackhole);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileRemoveObject ///////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListRemoveRange(
-            IndexedLinkedListStateRemoveRange state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListRemoveRange(
-            LinkedListStateRemoveRange state) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListRemoveRange(ArrayListStateRemoveRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveRange(TreeListStateRemoveRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveRange(
-            NodeCachingLinkedListStateRemoveRange state) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveRange(
-            CursorableLinkedListStateRemoveRange state) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-
-        profileRemoveRange(state.list);
-    }
-    ////////////////////////////////////////////////////////////////////////////
-
-
-    //// profileRemoveFirst ////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListRemoveFirst(
-            IndexedLinkedListStateRemoveFirst state,
-            Blackhole blackhole) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListRemoveFirst(
-            LinkedListStateRemoveFirst state,
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListRemoveFirst(ArrayListStateRemoveFirst state,
-                                            Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveFirst(TreeListStateRemoveFirst state, 
-                                           Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveFirst(
-            NodeCachingLinkedListStateRemoveFirst state, 
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
-    }
-
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveFirst(
-            TreeListStateRemoveFirst state, 
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveFirst(state.list, blackhole);
+    static int getOperations(int size) {
+        return size / OPERATIONS_DIVISOR;
     }
-    ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Returns the number of lists of {@code size} elements to prebuild at a
+     * time for the benchmarks that consume a list per invocation.
+     */
+    static int getClonePoolCapacity(int size) {
+        return Math.max(1, CLONE_POOL_ELEMENTS / Math.max(1, size));
+    }
 
-    //// profileRemoveLast /////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileRoddeListRemoveLast(
-            IndexedLinkedListStateRemoveLast state,
-            Blackhole blackhole) {
+    /**
+     * Returns the number of list operations one invocation of the benchmark
+     * {@code benchmark} performs on a list of {@code size} elements. Bulk
+     * operations such as {@code removeAll} count as a single operation.
+     */
+    static int getOperationCount(String benchmark, int size) {
+        switch (benchmark) {
+            case "profileRemoveAtIndex":
+            case "profileRemoveFirst":
+            case "profileRemoveLast":
+            case "profileIterate":
+            case "profileIterateAndModify":
+                return size;
 
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+            case "profileRemoveRange":
+            case "profileSortRange":
+            case "profileRemoveAll":
+                return 1;
+
+            default:
+                return getOperations(size);
+        }
     }
 
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileJavaLinkedListRemoveLast(LinkedListStateRemoveLast state,
-                                                Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+    private static int getRemoveCollectionCapacity(int size) {
+        return size / REMOVE_COLLECTION_CAPACITY_DIVISOR;
     }
 
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileArrayListRemoveLast(ArrayListStateRemoveLast state,
-                                           Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+    private static int getClearRangeSize(int size) {
+        return size - size / CLEAR_RANGE_REMAINDER_DIVISOR;
     }
 
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveLast(TreeListStateRemoveLast state, 
-                                          Blackhole blackhole) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+    private static Integer getRandomInteger(Random random) {
+        return random.nextInt(MAXIMUM_INTEGER + 1);
     }
 
+    //// profileAddFirst ///////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveLast(
-            NodeCachingLinkedListStateRemoveLast state, 
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+    public void profileAddFirst(ListState state) {
+        profileAddFirst(state.factory.get(), getOperations(state.size));
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileAddLast ////////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveLast(
-            CursorableLinkedListStateRemoveLast state, 
-            Blackhole blackhole) {
-        
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveLast(state.list, blackhole);
+    public void profileAddLast(ListState state) {
+        profileAddLast(state.factory.get(), getOperations(state.size));
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// profileGet ////////////////////////////////////////////////////////////
+    //// profileAddAtIndex /////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 0)
-    public void profileRoddeListGet(IndexedLinkedListStateGet state,
-                                    Blackhole blackhole) {
-        profileGet(state.list,
-                   GET_OPERATIONS,
-                   state.random, 
-                   blackhole);
+    @Fork(value = 1)
+    public void profileAddAtIndex(ListState state, 
+                                  IndexDistributionState distributionState) {
+        Random random = new Random(seed + 1L);
+        profileAddAtIndex(state.factory.get(), 
+                          getOperations(state.size),
+                          random,
+                          distributionState.distribution.newSequence(random));
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileAddCollection //////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListGet(ArrayListStateGet state, 
-                                    Blackhole blackhole) {
-        profileGet(state.list, 
-                   GET_OPERATIONS, 
-                   state.random, 
-                   blackhole);
+    public void profileAddCollection(ListState state) {
+        Random random = new Random(seed + 2);
+        profileAddCollection(state.factory.get(),
+                             getOperations(state.size), 
+                             random);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileAddCollectionAtIndex ///////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileJavaLinkedListGet(LinkedListStateGet state,
-                                         Blackhole blackhole) {
-        profileGet(state.list, 
-                   GET_OPERATIONS,  
-                   state.random, 
-                   blackhole);
+    public void profileAddCollectionAtIndex(ListState state) {
+        Random random = new Random(seed + 2);
+        profileAddCollectionAtIndex(state.factory.get(),
+                                    getOperations(state.size), 
+                                    random);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileRemoveAt ///////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListGet(TreeListStateGet state, 
-                                   Blackhole blackhole) {
-
-        profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
+    public void profileRemoveAtIndex(ContentState state, 
+                                     IndexDistributionState distributionState,
+                                     Blackhole blackhole) {
+        profileRemoveAt(
+                state.list,
+                distributionState.distribution.newSequence(state.random),
+                blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
+
 
+    //// profileRemoveObject ///////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileNodeCachingLinkedListGet(
-            NodeCachingLinkedListStateGet state, 
-            Blackhole blackhole) {
-
-        profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
+    public void profileRemoveObject(ContentState state, 
+                                    Blackhole blackhole) {
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileRemoveRange ////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileCursorableLinkedListGet(
-            CursorableLinkedListStateGet state, 
-            Blackhole blackhole) {
-
-        profileGet(state.list, GET_OPERATIONS, state.random, blackhole);
+    public void profileRemoveRange(ContentState state) {
+        profileRemoveRange(state.list, state.size);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
-    //// profileSortRange //////////////////////////////////////////////////////
+    //// profileRemoveFirst ////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 0)
-    public void profileRoddeListSortRange(
-            IndexedLinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileSort(state.list);
+    @Fork(value = 1)
+    public void profileRemoveFirst(ContentState state, Blackhole blackhole) {
+        profileRemoveFirst(state.list, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileRemoveLast /////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListSortRange(ArrayListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileSort(state.list);
+    public void profileRemoveLast(ContentState state, Blackhole blackhole) {
+        profileRemoveLast(state.list, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
+
 
+    //// profileGet ////////////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileJavaLinkedListSortRange(LinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileSort(state.list);
+    public void profileGet(GetState state, 
+                           IndexDistributionState distributionState,
+                           Blackhole blackhole) {
+        profileGet(state.list, 
+                   getOperations(state.size), 
+                   distributionState.distribution.newSequence(state.random), 
+                   blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
+
 
+    //// profileIndexOf ////////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileTreeListSortRange(TreeListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileSort(state.list);
+    public void profileIndexOf(GetState state, Blackhole blackhole) {
+        profileIndexOf(state.list, state.size, state.random, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+
+    //// profileContains ///////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileNodeCachingLinkedListSortRange(
-            NodeCachingLinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileSort(state.list);
+    public void profileContains(GetState state, Blackhole blackhole) {
+        profileContains(state.list, state.size, state.random, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
+
 
+    //// profileSortRange //////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileCursorableLinkedListSortRange(
-            CursorableLinkedListStateSortRange state) {
-        state.list.clear();
-        state.list.addAll(state.contentList);
+    public void profileSortRange(SortRangeState state) {
         profileSort(state.list);
     }
     ////////////////////////////////////////////////////////////////////////////
 
 
     //// profileRemoveAll //////////////////////////////////////////////////////
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 0)
-    public void profileRoddeListRemoveAll(
-            IndexedLinkedListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveAll(state.list, state.set);
-    }
-
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileArrayListRemoveAll(
-            ArrayListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
+    public void profileRemoveAll(RemoveInCollectionState state) {
         profileRemoveAll(state.list, state.set);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
+    //// profileIterate ////////////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileJavaLinkedListRemoveAll(
-            LinkedListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveAll(state.list, state.set);
+    public void profileIterate(GetState state, Blackhole blackhole) {
+        profileIterate(state.list, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
 
-    @Benchmark
-    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
-    @Measurement(iterations = 1)
-    @BenchmarkMode(Mode.AverageTime)
-    @OutputTimeUnit(TimeUnit.MILLISECONDS)
-    @Fork(value = 1)
-    public void profileTreeListRemoveAll(
-            TreeListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveAll(state.list, state.set);
-    }
 
+    //// profileIterateAndModify ///////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileNodeCachingLinkedListRemoveAll(
-            NodeCachingLinkedListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveAll(state.list, state.set);
+    public void profileIterateAndModify(IterateAndModifyState state, 
+                                        Blackhole blackhole) {
+        profileIterateAndModify(state.list, state.rng, blackhole);
     }
+    ////////////////////////////////////////////////////////////////////////////
+
 
+    //// profileClusteredEdit //////////////////////////////////////////////////
     @Benchmark
     @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
     @Measurement(iterations = 1)
     @BenchmarkMode(Mode.AverageTime)
     @OutputTimeUnit(TimeUnit.MILLISECONDS)
     @Fork(value = 1)
-    public void profileCursorableLinkedListRemoveAll(
-            CursorableLinkedListStateRemoveInCollection state) {
-
-        state.list.clear();
-        state.list.addAll(state.contentList);
-        profileRemoveAll(state.list, state.set);
+    public void profileClusteredEdit(ContentState state, Blackhole blackhole) {
+        profileClusteredEdit(state.list, 
+                             getOperations(state.size), 
+                             state.random, 
+                             blackhole);
     }
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Runs the whole suite and prints the results. The arguments are the list
+     * sizes to run, optionally mixed with {@code --profile=quick|rigorous}
+     * (see {@link RunProfile}), {@code --baseline=<csv>},
+     * {@code --baseline-size=<size>} and {@code --threshold=<fraction>}. With
+     * a baseline, the results are checked by a {@link RegressionGate} and the
+     * JVM exits with status 1 if any benchmark regressed. The baseline size
+     * declares the list size of baseline rows without a size, such as those
+     * of the committed {@code results.csv}; without it they are skipped.
+     *
+     * @param args the command line arguments.
+     * @throws Exception if the benchmarks cannot be run.
+     */
     public static void main(String[] args) throws Exception {
-        Options opt = new OptionsBuilder()
-                .forks(0)
-                .warmupForks(0)
-                .warmupIterations(1)
-                .warmupTime(TimeValue.seconds(2L))
-                .measurementIterations(1)
-                .measurementTime(TimeValue.seconds(2L))
+        List<String> sizes = new ArrayList<>();
+        String baselineFile = null;
+        String baselineSize = null;
+        double threshold = DEFAULT_REGRESSION_THRESHOLD;
+        RunProfile runProfile = RunProfile.QUICK;
+
+        for (String arg : args) {
+            if (arg.startsWith(PROFILE_OPTION)) {
+                runProfile = RunProfile.forName(
+                        arg.substring(PROFILE_OPTION.length()));
+            } else if (arg.startsWith(BASELINE_OPTION)) {
+                baselineFile = arg.substring(BASELINE_OPTION.length());
+            } else if (arg.startsWith(BASELINE_SIZE_OPTION)) {
+                baselineSize = Integer.toString(Integer.parseInt(
+                        arg.substring(BASELINE_SIZE_OPTION.length())));
+            } else if (arg.startsWith(THRESHOLD_OPTION)) {
+                threshold = Double.parseDouble(
+                        arg.substring(THRESHOLD_OPTION.length()));
+            } else {
+                sizes.add(arg);
+            }
+        }
+
+        // Load the baseline up front so that a bad file fails fast:
+        RegressionGate regressionGate = 
+                baselineFile == null ? 
+                null : 
+                new RegressionGate(Paths.get(baselineFile),
+                                   threshold,
+                                   baselineSize);
+
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(IndexedLinkedListPerformance.class.getName() + "\\.")
                 .jvmArgsPrepend("-server", "-Xms7G", "-Xmx7G")
                 .shouldDoGC(true)
                 .timeUnit(TimeUnit.MILLISECONDS)
                 .syncIterations(false)
-                .build();
+                .addProfiler(GCProfiler.class);
 
-        System.out.println("--- Total running times:");
+        runProfile.apply(optionsBuilder);
 
-        List<RunResult> runResults = new ArrayList<>(new Runner(opt).run());
-        
-        Map<String, Double> scoreMap = new HashMap<>();
-        
-        for (RunResult runResult : runResults) {
-            scoreMap.put(runResult.getPrimaryResult().getLabel(), 
-                         runResult.getPrimaryResult().getScore());
+        if (!sizes.isEmpty()) {
+            // Run only the list sizes given on the command line instead of
+            // the whole sweep declared in ListState:
+            optionsBuilder.param("size", sizes.toArray(new String[0]));
         }
+
+        Options opt = optionsBuilder.build();
+
+        System.out.println("--- Total running times " + 
+                           "(index distribution, time, 99.9% error, " + 
+                           "outliers, gc.alloc.rate.norm B/op, " + 
+                           "gc.churn B/op, gc.count):");
+
+        List<RunResult> runResults =
+                new ArrayList<>(BenchmarkLauncher.run(opt));
         
         runResults.sort((r1, r2) -> {
             String label1 = r1.getPrimaryResult().getLabel();
             String label2 = r2.getPrimaryResult().getLabel();
+            int cmp = label1.compareTo(label2);
+            
+            if (cmp != 0) {
+                return cmp;
+            }
+            
+            cmp = getDistribution(r1).compareTo(getDistribution(r2));
+            
+            if (cmp != 0) {
+                return cmp;
+            }
             
-            label1 = label1.replace("ArrayList",             "");
-            label1 = label1.replace("JavaLinkedList",        "");
-            label1 = label1.replace("RoddeList",             "");
-            label1 = label1.replace("TreeList",              "");
-            label1 = label1.replace("NodeCachingLinkedList", "");
-            label1 = label1.replace("CursorableLinkedList",  "");
+            cmp = Integer.compare(getSize(r1), getSize(r2));
             
-            label2 = label2.replace("ArrayList",             "");
-            label2 = label2.replace("JavaLinkedList",        "");
-            label2 = label2.replace("RoddeList",             "");
-            label2 = label2.replace("TreeList",              "");
-            label2 = label2.replace("NodeCachingLinkedList", "");
-            label2 = label2.replace("CursorableLinkedList",  "");
+            if (cmp != 0) {
+                return cmp;
+            }
             
-            return label1.compareTo(label2);
+            return getImplementation(r1).compareTo(getImplementation(r2));
         });
         
-        int index = 0;
+        String previousGroup = null;
         
         for (RunResult rr : runResults) {
             Result result = rr.getPrimaryResult();
             String label = result.getLabel();
-            double score = scoreMap.get(label);
-            
-            System.out.printf("| %-50s | %-10.3f |\n", label, score);
+            String group = 
+                    label + "/" + getDistribution(rr) + "/" + getSize(rr);
             
-            if (++index % 4 == 0) {
+            if (previousGroup != null && !previousGroup.equals(group)) {
                 System.out.println(
-                        "| -------------------------------------------------- " +
-                        "| ---------- |");
+                        "| ------------------------------ " +
+                        "| -------------- " +
+                        "| ------------------------- " + 
+                        "| ---------- | ---------- | ---------- | -------- " + 
+                        "| -------------- | -------------- | -------- |");
             }
+            
+            previousGroup = group;
+            
+            System.out.printf(
+                    "| %-30s | %-14s | %-25s | %-10d | %-10.3f | %-10.3f " + 
+                    "| %-8d | %-14.1f | %-14.1f | %-8.0f |\n", 
+                    label, 
+                    getDistribution(rr),
+                    getImplementation(rr),
+                    getSize(rr),
+                    result.getScore(),
+                    result.getScoreError(),
+                    getOutlierCount(rr),
+                    getAllocatedBytes(rr),
+                    getChurnBytes(rr),
+                    getGcCount(rr));
         }
 
         printTotalDurations(runResults);
+        printFootprints(getSizes(runResults));
+
+        if (regressionGate != null && !regressionGate.check(runResults)) {
+            System.exit(1);
+        }
     }
 
-    private static void printTotalDurations(Collection<RunResult> runResults) {
-        Map<String, Double> map = new LinkedHashMap<>();
+    /**
+     * Prints the footprint table for the benchmarked sizes up to the largest
+     * default size of {@link MemoryFootprint}. The table is built in this
+     * JVM, which does not get the heap of the forked benchmark JVMs.
+     */
+    private static void printFootprints(Set<Integer> sizes) {
+        int largestSize = MemoryFootprint.getLargestDefaultSize();
+        Set<Integer> measuredSizes = new TreeSet<>();
+
+        for (int size : sizes) {
+            if (size <= largestSize) {
+                measuredSizes.add(size);
+            } else {
+                System.out.printf(
+                        "--- Skipping the footprint of size %d; run " +
+                        "MemoryFootprint with a larger heap to measure it.\n",
+                        size);
+            }
+        }
+
+        if (!measuredSizes.isEmpty()) {
+            MemoryFootprint.printFootprints(measuredSizes);
+        }
+    }
 
-        map.put("ArrayList", 0.0);
-        map.put("JavaLinkedList", 0.0);
-        map.put("RoddeList", 0.0);
-        map.put("TreeList", 0.0);
-        map.put("NodeCachingLinkedList", 0.0);
-        map.put("CursorableLinkedList", 0.0);
+    private static Set<Integer> getSizes(Collection<RunResult> runResults) {
+        Set<Integer> sizes = new TreeSet<>();
 
         for (RunResult runResult : runResults) {
-            Result result = runResult.getPrimaryResult();
-            String label = result.getLabel();
-            double score = result.getScore();
-
-            if (label.contains("ArrayList")) {
-                map.put("ArrayList", map.get("ArrayList") + score);
-            } else if (label.contains("JavaLinkedList")) {
-                map.put("JavaLinkedList", map.get("JavaLinkedList") + score);
-            } else if (label.contains("RoddeList")) {
-                map.put("RoddeList", map.get("RoddeList") + score);
-            } else if (label.contains("TreeList")) {
-                map.put("TreeList", map.get("TreeList") + score);
-            } else if (label.contains("NodeCachingLinkedList")) {
-                map.put("NodeCachingLinkedList", 
-                        map.get("NodeCachingLinkedList") + score);
-            } else if (label.contains("CursorableLinkedList")) {
-                map.put("CursorableLinkedList", 
-                        map.get("CursorableLinkedList") + score);
-            } else {
-                System.err.println(
-                        "Error: unknown label: "
-                                + label 
-                                + ", score: " 
-                                + score);
+            sizes.add(getSize(runResult));
+        }
+
+        return sizes;
+    }
+
+    private static int getSize(RunResult runResult) {
+        return Integer.parseInt(runResult.getParams().getParam("size"));
+    }
+
+    private static String getImplementation(RunResult runResult) {
+        return runResult.getParams().getParam("implementation");
+    }
+
+    private static String getDistribution(RunResult runResult) {
+        String distribution = runResult.getParams().getParam("distribution");
+        return distribution == null ? "-" : distribution;
+    }
+
+    private static int getOutlierCount(RunResult runResult) {
+        List<Double> scores = new ArrayList<>();
+
+        // One benchmark result per fork, one iteration result per iteration:
+        for (BenchmarkResult benchmarkResult 
+                : runResult.getBenchmarkResults()) {
+            for (IterationResult iterationResult 
+                    : benchmarkResult.getIterationResults()) {
+                scores.add(iterationResult.getPrimaryResult().getScore());
+            }
+        }
+
+        if (scores.size() < 4) {
+            return 0;
+        }
+
+        Collections.sort(scores);
+
+        double firstQuartile = getQuantile(scores, 0.25);
+        double thirdQuartile = getQuantile(scores, 0.75);
+        double interquartileRange = thirdQuartile - firstQuartile;
+        double lowerFence = 
+                firstQuartile - OUTLIER_IQR_FACTOR * interquartileRange;
+        double upperFence = 
+                thirdQuartile + OUTLIER_IQR_FACTOR * interquartileRange;
+        int outliers = 0;
+
+        for (double score : scores) {
+            if (score < lowerFence || score > upperFence) {
+                outliers++;
+            }
+        }
+
+        return outliers;
+    }
+
+    private static double getQuantile(List<Double> sortedScores, 
+                                      double quantile) {
+        double position = quantile * (sortedScores.size() - 1);
+        int lowerIndex = (int) Math.floor(position);
+        int upperIndex = (int) Math.ceil(position);
+        double fraction = position - lowerIndex;
+
+        return sortedScores.get(lowerIndex) * (1.0 - fraction) 
+             + sortedScores.get(upperIndex) * fraction;
+    }
+
+    private static double getAllocatedBytes(RunResult runResult) {
+        Result result = 
+                runResult.getSecondaryResults().get(ALLOCATION_RATE_LABEL);
+
+        return result == null ? Double.NaN : result.getScore();
+    }
+
+    private static double getChurnBytes(RunResult runResult) {
+        double churn = 0.0;
+
+        // One churn result is reported per collected memory pool:
+        for (Map.Entry<String, Result> entry 
+                : runResult.getSecondaryResults().entrySet()) {
+            String label = entry.getKey();
+
+            if (label.startsWith(CHURN_LABEL_PREFIX) 
+                    && label.endsWith(CHURN_LABEL_SUFFIX)) {
+                churn += entry.getValue().getScore();
             }
         }
 
-        for (Map.Entry<String, Double> entry : map.entrySet()) {
-            System.out.printf("| Total of %-50s | %-10.3f |\n", 
-                              entry.getKey(), 
-                              entry.getValue());
+        return churn;
+    }
+
+    private static double getGcCount(RunResult runResult) {
+        Result result = runResult.getSecondaryResults().get(GC_COUNT_LABEL);
+        return result == null ? 0.0 : result.getScore();
+    }
+
+    private static void printTotalDurations(Collection<RunResult> runResults) {
+        Map<Integer, Map<String, double[]>> sizeMap = new TreeMap<>();
+
+        for (RunResult runResult : runResults) {
+            String distribution = getDistribution(runResult);
+
+            // Only the uniform runs count, so that the totals do not depend
+            // on how many index distributions were run:
+            if (!distribution.equals("-") 
+                    && !distribution.equals(IndexDistribution.UNIFORM.name())) {
+                continue;
+            }
+
+            Map<String, double[]> map = 
+                    sizeMap.computeIfAbsent(getSize(runResult), 
+                                            (size) -> new LinkedHashMap<>());
+
+            // { time, allocated bytes, churned bytes, GC count }:
+            double[] totals = 
+                    map.computeIfAbsent(getImplementation(runResult), 
+                                        (implementation) -> new double[4]);
+
+            totals[0] += runResult.getPrimaryResult().getScore();
+            totals[1] += getAllocatedBytes(runResult);
+            totals[2] += getChurnBytes(runResult);
+            totals[3] += getGcCount(runResult);
+        }
+
+        for (Map.Entry<Integer, Map<String, double[]>> sizeEntry 
+                : sizeMap.entrySet()) {
+            for (Map.Entry<String, double[]> entry 
+                    : sizeEntry.getValue().entrySet()) {
+                double[] totals = entry.getValue();
+
+                System.out.printf(
+                        "| Total of %-50s | %-10d | %-10.3f " + 
+                        "| %-14.1f | %-14.1f | %-8.0f |\n", 
+                        entry.getKey(), 
+                        sizeEntry.getKey(),
+                        totals[0],
+                        totals[1],
+                        totals[2],
+                        totals[3]);
+            }
         }
     }
 
@@ -2203,33 +919,61 @@ public class IndexedLinkedListPerformance {
     }
 
     private void profileRemoveAt(List<Integer> list,
-                                 Random random, 
+                                 IndexSequence indices, 
                                  Blackhole blackhole) {
         while (!list.isEmpty()) {
-            int index = random.nextInt(list.size());
+            int index = indices.nextIndex(list.size());
             Integer i = list.remove(index);
             blackhole.consume(i);
         }
     }
 
     private void profileRemoveObject(List<Integer> list,
+                                     int size,
                                      Random random, 
                                      Blackhole blackhole) {
-        for (int i = 0; i < REMOVE_OBJECT_OPERATIONS; ++i) {
-            Integer value = random.nextInt(REMOVE_COLLECTION_SIZE);
+        int operations = getOperations(size);
+
+        for (int i = 0; i < operations; ++i) {
+            Integer value = random.nextInt(size);
             list.remove((Object) value);
             blackhole.consume(value);
         }
     }
 
-    private void profileRemoveRange(List<Integer> list) {
+    private void profileIndexOf(List<Integer> list,
+                                int size,
+                                Random random, 
+                                Blackhole blackhole) {
+        int operations = getOperations(size);
+
+        for (int i = 0; i < operations; ++i) {
+            blackhole.consume(list.indexOf(random.nextInt(size)));
+        }
+    }
+
+    private void profileContains(List<Integer> list,
+                                 int size,
+                                 Random random, 
+                                 Blackhole blackhole) {
+        int operations = getOperations(size);
+
+        for (int i = 0; i < operations; ++i) {
+            // About half of the lookups miss:
+            blackhole.consume(list.contains(random.nextInt(2 * size)));
+        }
+    }
+
+    private void profileRemoveRange(List<Integer> list, int size) {
+        int clearRangeSize = getClearRangeSize(size);
+
         if (list instanceof TreeList) {
             int fromIndex = list.size() / 2;
             int toIndex = fromIndex + 1;
 
             clearFromTreeList(list, fromIndex, toIndex);
 
-            fromIndex = (list.size() - CLEAR_RANGE_SIZE) / 2;
+            fromIndex = (list.size() - clearRangeSize) / 2;
             toIndex = list.size() - fromIndex;
 
             clearFromTreeList(list, fromIndex, toIndex);
@@ -2239,7 +983,7 @@ public class IndexedLinkedListPerformance {
 
             list.subList(fromIndex, toIndex).clear();
 
-            fromIndex = (list.size() - CLEAR_RANGE_SIZE) / 2;
+            fromIndex = (list.size() - clearRangeSize) / 2;
             toIndex = list.size() - fromIndex;
 
             list.subList(fromIndex, toIndex).clear();   
@@ -2286,11 +1030,12 @@ public class IndexedLinkedListPerformance {
         }
     }
 
-    private void profileAddAtIndex(List<Integer> list, int operations) {
-        Random random = new Random(seed + 1L);
-
+    private void profileAddAtIndex(List<Integer> list, 
+                                   int operations,
+                                   Random random,
+                                   IndexSequence indices) {
         for (int i = 0; i < operations; i++) {
-            int index = random.nextInt(list.size() + 1);
+            int index = indices.nextIndex(list.size() + 1);
             Integer value = getRandomInteger(random);
             list.add(index, value);
         }
@@ -2298,10 +1043,10 @@ public class IndexedLinkedListPerformance {
 
     private void profileGet(List<Integer> list,
                             int operations, 
-                            Random random, 
+                            IndexSequence indices, 
                             Blackhole blackhole) {
         for (int i = 0; i < operations; i++) {
-            Integer j = list.get(random.nextInt(list.size()));
+            Integer j = list.get(indices.nextIndex(list.size()));
             blackhole.consume(j);
         }
     }
@@ -2321,6 +1066,53 @@ public class IndexedLinkedListPerformance {
         }
     }
 
+    private void profileIterate(List<Integer> list, Blackhole blackhole) {
+        for (Integer i : list) {
+            blackhole.consume(i);
+        }
+    }
+
+    private void profileIterateAndModify(List<Integer> list,
+                                         UniformRandomProvider rng,
+                                         Blackhole blackhole) {
+        ListIterator<Integer> iterator = list.listIterator();
+
+        while (iterator.hasNext()) {
+            Integer i = iterator.next();
+            blackhole.consume(i);
+
+            double randomValue = rng.nextDouble();
+
+            if (randomValue > ITERATE_AND_MODIFY_ADD_THRESHOLD) {
+                iterator.add(i);
+            } else if (randomValue < ITERATE_AND_MODIFY_REMOVE_THRESHOLD) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void profileClusteredEdit(List<Integer> list,
+                                      int operations,
+                                      Random random,
+                                      Blackhole blackhole) {
+        int cursor = 0;
+
+        for (int i = 0; i < operations; ++i) {
+            if (i % CLUSTERED_EDIT_BURST_LENGTH == 0) {
+                cursor = random.nextInt(list.size() + 1);
+            }
+
+            boolean remove = 
+                    random.nextDouble() < CLUSTERED_EDIT_REMOVE_PROBABILITY;
+
+            if (cursor > 0 && remove) {
+                blackhole.consume(list.remove(--cursor));
+            } else {
+                list.add(cursor++, i);
+            }
+        }
+    }
+
     private static List<Integer> getCollection(Random random) {
         List<Integer> list = new ArrayList<>();
         int listSize = random.nextInt(MAXIMUM_COLLECTION_SIZE + 1);
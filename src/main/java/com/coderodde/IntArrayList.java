@@ -0,0 +1,88 @@
+package com.coderodde;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable array of primitive {@code int} values in the spirit of
+ * fastutil's {@code IntArrayList}. Serves as the array-based baseline for
+ * {@link IntIndexedLinkedList}.
+ */
+public final class IntArrayList implements IntList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addInt(int value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    @Override
+    public void addInt(int index, int value) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        ++size;
+    }
+
+    @Override
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int setInt(int index, int value) {
+        Objects.checkIndex(index, size);
+        int oldValue = elements[index];
+        elements[index] = value;
+        return oldValue;
+    }
+
+    @Override
+    public int removeAtInt(int index) {
+        Objects.checkIndex(index, size);
+        int value = elements[index];
+        System.arraycopy(elements,
+                         index + 1,
+                         elements,
+                         index,
+                         size - index - 1);
+        --size;
+        return value;
+    }
+
+    @Override
+    public boolean removeInt(int value) {
+        for (int i = 0; i < size; ++i) {
+            if (elements[i] == value) {
+                removeAtInt(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int newCapacity = Math.max(capacity, elements.length * 3 / 2);
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+}
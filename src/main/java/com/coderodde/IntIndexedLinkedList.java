@@ -0,0 +1,58 @@
+package com.coderodde;
+
+import java.util.Arrays;
+
+/**
+ * An {@link AbstractIntIndexedLinkedList} keeping its node slots on the heap
+ * in three parallel arrays ({@code values}, {@code next}, {@code prev}).
+ */
+public final class IntIndexedLinkedList extends AbstractIntIndexedLinkedList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values = new int[DEFAULT_CAPACITY];
+    private int[] next   = new int[DEFAULT_CAPACITY];
+    private int[] prev   = new int[DEFAULT_CAPACITY];
+
+    @Override
+    protected int getValue(int node) {
+        return values[node];
+    }
+
+    @Override
+    protected void setValue(int node, int value) {
+        values[node] = value;
+    }
+
+    @Override
+    protected int getNext(int node) {
+        return next[node];
+    }
+
+    @Override
+    protected void setNext(int node, int next) {
+        this.next[node] = next;
+    }
+
+    @Override
+    protected int getPrev(int node) {
+        return prev[node];
+    }
+
+    @Override
+    protected void setPrev(int node, int prev) {
+        this.prev[node] = prev;
+    }
+
+    @Override
+    protected int getCapacity() {
+        return values.length;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+        next   = Arrays.copyOf(next,   capacity);
+        prev   = Arrays.copyOf(prev,   capacity);
+    }
+}
@@ -0,0 +1,79 @@
+package com.coderodde;
+
+/**
+ * A minimal positional list of primitive {@code int} values. The operations
+ * mirror their {@link java.util.List} counterparts without boxing.
+ */
+public interface IntList {
+
+    /**
+     * Returns the number of values in this list.
+     *
+     * @return the size of this list.
+     */
+    int size();
+
+    /**
+     * Returns {@code true} if this list holds no values.
+     *
+     * @return {@code true} if this list is empty.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Appends {@code value} to the end of this list.
+     *
+     * @param value the value to append.
+     */
+    void addInt(int value);
+
+    /**
+     * Inserts {@code value} at position {@code index}, shifting the
+     * subsequent values one position to the right.
+     *
+     * @param index the insertion position.
+     * @param value the value to insert.
+     */
+    void addInt(int index, int value);
+
+    /**
+     * Returns the value at position {@code index}.
+     *
+     * @param index the position of the value.
+     * @return the value at {@code index}.
+     */
+    int getInt(int index);
+
+    /**
+     * Replaces the value at position {@code index}.
+     *
+     * @param index the position of the value.
+     * @param value the new value.
+     * @return the old value.
+     */
+    int setInt(int index, int value);
+
+    /**
+     * Removes the value at position {@code index}, shifting the subsequent
+     * values one position to the left.
+     *
+     * @param index the position of the value to remove.
+     * @return the removed value.
+     */
+    int removeAtInt(int index);
+
+    /**
+     * Removes the first occurrence of {@code value} from this list.
+     *
+     * @param value the value to remove.
+     * @return {@code true} if the value was found and removed.
+     */
+    boolean removeInt(int value);
+
+    /**
+     * Removes all values from this list.
+     */
+    void clear();
+}
@@ -0,0 +1,254 @@
+package com.coderodde;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Runs the get, add-at-index, remove-at-index and remove-object workloads of 
+ * {@link IndexedLinkedListPerformance} on {@code int} payloads, comparing the
+ * boxing-free {@link IntIndexedLinkedList}, its off-heap sibling 
+ * {@link OffHeapIntIndexedLinkedList} and {@link IntArrayList} with the 
+ * boxed {@code IndexedLinkedList}. Every benchmark reports the GC count and
+ * pause time deltas of its iterations through {@link GcCounters}.
+ */
+@State(Scope.Thread)
+public class IntListPerformance {
+
+    private static final int MAXIMUM_INTEGER = 1_000;
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State list ////////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class IntListState {
+
+        /**
+         * The name of the benchmarked list. Any name registered in 
+         * {@link ListImplementations} runs the boxed list through 
+         * {@link BoxedIntList}.
+         */
+        @Param({"IntIndexedLinkedList", 
+                "OffHeapIntIndexedLinkedList", 
+                "IntArrayList", 
+                "IndexedLinkedList"})
+        public String implementation;
+
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        public int size;
+
+        public Supplier<IntList> factory;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            factory = getFactory(implementation, size);
+            populate();
+        }
+
+        protected void populate() {
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State get /////////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class IntGetState extends IntListState {
+        public IntList list;
+        public Random random;
+
+        @Override
+        protected void populate() {
+            list = factory.get();
+            random = new Random(seed);
+
+            for (int i = 0; i < size; ++i) {
+                list.addInt(i);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State remove //////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class IntRemoveState extends IntListState {
+        public IntList list;
+        public Random random;
+
+        private final Deque<IntList> clonePool = new ArrayDeque<>();
+
+        @Override
+        protected void populate() {
+            random = new Random(seed);
+        }
+
+        /**
+         * Hands a freshly filled list to the next invocation outside the
+         * measured region; see {@code IndexedLinkedListPerformance}. The
+         * pool is refilled inside measurement iterations, so its garbage
+         * collections are kept out of {@link GcCounters}.
+         */
+        @Setup(Level.Invocation)
+        public void restoreList() {
+            if (clonePool.isEmpty()) {
+                GcCounters.runExcluded(this::fillClonePool);
+            }
+
+            list = clonePool.removeFirst();
+        }
+
+        private void fillClonePool() {
+            int capacity = 
+                    IndexedLinkedListPerformance.getClonePoolCapacity(size);
+
+            for (int i = 0; i < capacity; ++i) {
+                IntList clone = factory.get();
+
+                for (int j = 0; j < size; ++j) {
+                    clone.addInt(j);
+                }
+
+                clonePool.addLast(clone);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    private static Supplier<IntList> getFactory(String implementation, 
+                                                int size) {
+        switch (implementation) {
+            case "IntIndexedLinkedList":
+                return IntIndexedLinkedList::new;
+
+            case "OffHeapIntIndexedLinkedList":
+                return OffHeapIntIndexedLinkedList::new;
+
+            case "IntArrayList":
+                return IntArrayList::new;
+
+            default:
+                Supplier<List<Integer>> boxedFactory = 
+                        ListImplementations.getFactory(implementation, size);
+
+                return () -> new BoxedIntList(boxedFactory.get());
+        }
+    }
+
+    //// profileGet ////////////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileGet(IntGetState state, 
+                           GcCounters gcCounters,
+                           Blackhole blackhole) {
+        profileGet(state.list, 
+                   IndexedLinkedListPerformance.getOperations(state.size), 
+                   state.random, 
+                   blackhole);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileAddAtIndex /////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileAddAtIndex(IntListState state, GcCounters gcCounters) {
+        profileAddAtIndex(
+                state.factory.get(), 
+                IndexedLinkedListPerformance.getOperations(state.size));
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileRemoveAt ///////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileRemoveAtIndex(IntRemoveState state, 
+                                     GcCounters gcCounters,
+                                     Blackhole blackhole) {
+        profileRemoveAt(state.list, state.random, blackhole);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileRemoveObject ///////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileRemoveObject(IntRemoveState state, 
+                                    GcCounters gcCounters,
+                                    Blackhole blackhole) {
+        profileRemoveObject(state.list, state.size, state.random, blackhole);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    // private methods:
+    private void profileGet(IntList list,
+                            int operations, 
+                            Random random, 
+                            Blackhole blackhole) {
+        for (int i = 0; i < operations; i++) {
+            blackhole.consume(list.getInt(random.nextInt(list.size())));
+        }
+    }
+
+    private void profileAddAtIndex(IntList list, int operations) {
+        Random random = new Random(seed + 1L);
+
+        for (int i = 0; i < operations; i++) {
+            int index = random.nextInt(list.size() + 1);
+            list.addInt(index, random.nextInt(MAXIMUM_INTEGER + 1));
+        }
+    }
+
+    private void profileRemoveObject(IntList list,
+                                     int size,
+                                     Random random, 
+                                     Blackhole blackhole) {
+        int operations = IndexedLinkedListPerformance.getOperations(size);
+
+        for (int i = 0; i < operations; ++i) {
+            blackhole.consume(list.removeInt(random.nextInt(size)));
+        }
+    }
+
+    private void profileRemoveAt(IntList list,
+                                 Random random, 
+                                 Blackhole blackhole) {
+        while (!list.isEmpty()) {
+            int index = random.nextInt(list.size());
+            blackhole.consume(list.removeAtInt(index));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.coderodde;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Samples the latency of individual {@code get}, {@code add(index)} and
+ * {@code remove(index)} calls at random positions in {@link Mode#SampleTime},
+ * so that occasional expensive calls, such as finger redistribution in
+ * {@code IndexedLinkedList}, show up in the tail instead of vanishing in an
+ * average. The insertions and removals alternate within one benchmark, which
+ * keeps the list size fixed without any per-invocation setup.
+ * <p>
+ * {@link #main(String[])} prints p50/p90/p99/p99.9/max per operation,
+ * implementation and size, and writes the sampled latencies as HdrHistogram
+ * logs into the {@value #HISTOGRAM_DIRECTORY} directory.
+ */
+@State(Scope.Thread)
+public class LatencyPerformance {
+
+    private static final String HISTOGRAM_DIRECTORY = "latency";
+
+    private static final int HISTOGRAM_SIGNIFICANT_DIGITS = 3;
+
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State latency /////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class LatencyState
+            extends IndexedLinkedListPerformance.ListState {
+
+        public List<Integer> list;
+        public Random random;
+
+        @Override
+        protected void populate() {
+            list = factory.get();
+            random = new Random(seed);
+
+            for (int i = 0; i < size; ++i) {
+                list.add(i);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// State editLatency /////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class EditLatencyState extends LatencyState {
+
+        /**
+         * The number of sampled edits so far. Insertions and removals
+         * alternate on it, so the list size stays at {@code size} or
+         * {@code size + 1} without a per-invocation setup distorting the
+         * sampled latencies.
+         */
+        public long edits;
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileGetLatency /////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1, time = 5, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    public Integer profileGetLatency(LatencyState state) {
+        return state.list.get(state.random.nextInt(state.list.size()));
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileAddRemoveAtIndexLatency ////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1, time = 5, timeUnit = TimeUnit.SECONDS)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1)
+    public Integer profileAddRemoveAtIndexLatency(EditLatencyState state) {
+        List<Integer> list = state.list;
+
+        if ((state.edits++ & 1L) == 0L) {
+            int index = state.random.nextInt(list.size() + 1);
+            list.add(index, index);
+            return null;
+        }
+
+        return list.remove(state.random.nextInt(list.size()));
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(LatencyPerformance.class.getName() + "\\.")
+                .warmupIterations(1)
+                .warmupTime(TimeValue.seconds(2L))
+                .measurementIterations(1)
+                .measurementTime(TimeValue.seconds(5L))
+                .timeUnit(TimeUnit.NANOSECONDS);
+
+        if (args.length > 0) {
+            optionsBuilder.param("size", args);
+        }
+
+        List<RunResult> runResults =
+                new ArrayList<>(BenchmarkLauncher.run(optionsBuilder.build()));
+
+        File directory = new File(HISTOGRAM_DIRECTORY);
+        directory.mkdirs();
+
+        System.out.println("--- Latencies in nanoseconds " +
+                           "(p50, p90, p99, p99.9, max):");
+
+        for (RunResult runResult : runResults) {
+            String label = runResult.getPrimaryResult().getLabel();
+            String implementation =
+                    runResult.getParams().getParam("implementation");
+            String size = runResult.getParams().getParam("size");
+            Histogram histogram = toHistogram(runResult);
+
+            System.out.printf("| %-27s | %-25s | %-10s ",
+                              label,
+                              implementation,
+                              size);
+
+            for (double percentile : PERCENTILES) {
+                System.out.printf("| %-8d ",
+                                  histogram.getValueAtPercentile(percentile));
+            }
+
+            System.out.printf("| %-10d |\n", histogram.getMaxValue());
+
+            histogram.setTag(label + "/" + implementation + "/" + size);
+            writeHistogram(
+                    histogram,
+                    new File(directory,
+                             label + "-" + implementation + "-" + size +
+                             ".hlog"));
+        }
+    }
+
+    private static Histogram toHistogram(RunResult runResult) {
+        Histogram histogram = new Histogram(HISTOGRAM_SIGNIFICANT_DIGITS);
+        Iterator<Map.Entry<Double, Long>> rawData =
+                runResult.getPrimaryResult().getStatistics().getRawData();
+
+        // The raw sample data holds every distinct latency with its count:
+        while (rawData.hasNext()) {
+            Map.Entry<Double, Long> entry = rawData.next();
+            histogram.recordValueWithCount(Math.round(entry.getKey()),
+                                           entry.getValue());
+        }
+
+        return histogram;
+    }
+
+    private static void writeHistogram(Histogram histogram, File file)
+            throws FileNotFoundException {
+        HistogramLogWriter writer = new HistogramLogWriter(file);
+
+        try {
+            writer.outputLogFormatVersion();
+            writer.outputComment("Latencies in nanoseconds");
+            writer.outputLegend();
+            writer.outputIntervalHistogram(histogram);
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.coderodde;
+
+import com.github.coderodde.util.IndexedLinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import org.apache.commons.collections4.list.CursorableLinkedList;
+import org.apache.commons.collections4.list.NodeCachingLinkedList;
+import org.apache.commons.collections4.list.TreeList;
+
+/**
+ * The registry of the list implementations benchmarked by the suite. Each
+ * entry maps an implementation name, as used in the {@code implementation}
+ * benchmark parameter, to a factory creating an empty list. Adding a new
+ * candidate list to every workload amounts to adding one entry here, or to
+ * shipping a {@link ListProvider} on the class path.
+ */
+public final class ListImplementations {
+
+    private static final int CACHE_NODES_DIVISOR = 20;
+
+    private static final Map<String, IntFunction<List<Integer>>> REGISTRY =
+            new LinkedHashMap<>();
+
+    static {
+        register("IndexedLinkedList", (size) -> new IndexedLinkedList<>());
+        register("ArrayList", (size) -> new ArrayList<>());
+        register("LinkedList", (size) -> new LinkedList<>());
+        register("TreeList", (size) -> new TreeList<>());
+        register("NodeCachingLinkedList",
+                 (size) -> new NodeCachingLinkedList<>(
+                         size / CACHE_NODES_DIVISOR));
+        register("CursorableLinkedList",
+                 (size) -> new CursorableLinkedList<>());
+        register("UnrolledLinkedList", (size) -> new UnrolledLinkedList<>());
+        register("CircularGapList", (size) -> new CircularGapList<>());
+        register("BTreeList", (size) -> new BTreeList<>());
+        register("HashIndexedLinkedList",
+                 (size) -> new HashIndexedLinkedList<>());
+
+        for (ListProvider provider : ServiceLoader.load(ListProvider.class)) {
+            register(provider.getName(), provider::createList);
+        }
+    }
+
+    private ListImplementations() {}
+
+    private static void register(String name, 
+                                 IntFunction<List<Integer>> factory) {
+        if (REGISTRY.putIfAbsent(name, factory) != null) {
+            throw new IllegalStateException(
+                    "Duplicate list implementation name: " + name);
+        }
+    }
+
+    /**
+     * Returns the names of all registered list implementations in
+     * registration order.
+     *
+     * @return the implementation names.
+     */
+    public static Set<String> getNames() {
+        return Collections.unmodifiableSet(REGISTRY.keySet());
+    }
+
+    /**
+     * Resolves the factory for the implementation {@code name}. The
+     * {@code size} is the number of elements the workload is going to hold;
+     * implementations with a size-dependent configuration (the node cache of
+     * {@link NodeCachingLinkedList}) use it to size themselves.
+     *
+     * @param name the name of the implementation.
+     * @param size the expected list size.
+     * @return the factory creating empty lists.
+     */
+    public static Supplier<List<Integer>> getFactory(String name, int size) {
+        IntFunction<List<Integer>> factory = REGISTRY.get(name);
+
+        if (factory == null) {
+            throw new IllegalArgumentException(
+                    "Unknown list implementation: "
+                            + name
+                            + ", expected one of "
+                            + REGISTRY.keySet());
+        }
+
+        return () -> factory.apply(size);
+    }
+}
@@ -0,0 +1,32 @@
+package com.coderodde;
+
+import java.util.List;
+
+/**
+ * The service provider interface for plugging additional list
+ * implementations into the benchmark suite. Providers are discovered through
+ * {@link java.util.ServiceLoader}: an implementation class with a public
+ * no-argument constructor listed in
+ * {@code META-INF/services/com.coderodde.ListProvider} of any jar on the
+ * class path joins every workload of the suite under its
+ * {@linkplain #getName() name}.
+ */
+public interface ListProvider {
+
+    /**
+     * Returns the name of the provided implementation as used in the
+     * {@code implementation} benchmark parameter. The name must not clash
+     * with any other registered implementation.
+     *
+     * @return the implementation name.
+     */
+    String getName();
+
+    /**
+     * Creates a new, empty list.
+     *
+     * @param size the number of elements the workload is going to hold.
+     * @return a new empty list.
+     */
+    List<Integer> createList(int size);
+}
@@ -0,0 +1,131 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the deep retained heap footprint of every list registered in
+ * {@link ListImplementations} by walking its object graph with JOL. Each list
+ * is built by appending {@code 0, 1, ..., size - 1} one by one, just like the
+ * benchmark states do, so array-based lists include their growth slack.
+ * <p>
+ * Two numbers are reported per element: the total, which includes the boxed
+ * {@code Integer} elements, and the structure only, which excludes the
+ * elements and is therefore what the list itself costs on top of its
+ * content.
+ */
+public final class MemoryFootprint {
+
+    private static final int[] DEFAULT_SIZES = {
+        1_000,
+        10_000,
+        100_000,
+        1_000_000
+    };
+
+    private MemoryFootprint() {
+    }
+
+    /**
+     * Returns the largest size measured by default. Larger lists may not fit
+     * into the default heap of a non-forked JVM.
+     *
+     * @return the largest default size.
+     */
+    static int getLargestDefaultSize() {
+        return DEFAULT_SIZES[DEFAULT_SIZES.length - 1];
+    }
+
+    /**
+     * Prints the footprint table for the sizes given on the command line, or
+     * for {@code 1000, 10000, 100000, 1000000} if there are none.
+     *
+     * @param args the list sizes to measure.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            printFootprints(toSet(DEFAULT_SIZES));
+            return;
+        }
+
+        Set<Integer> sizes = new TreeSet<>();
+
+        for (String arg : args) {
+            sizes.add(Integer.parseInt(arg));
+        }
+
+        printFootprints(sizes);
+    }
+
+    /**
+     * Prints the deep retained bytes and the bytes per element of every
+     * registered list implementation at each of the given sizes.
+     *
+     * @param sizes the list sizes to measure.
+     */
+    public static void printFootprints(Set<Integer> sizes) {
+        System.out.println("--- Retained footprint " +
+                           "(deep bytes, bytes/element, " +
+                           "structure bytes/element):");
+
+        boolean first = true;
+
+        for (int size : sizes) {
+            List<Integer> contentList = new ArrayList<>(size);
+
+            for (int i = 0; i < size; ++i) {
+                contentList.add(i);
+            }
+
+            // The elements are passed as separate roots so that the array
+            // itself does not count:
+            GraphLayout elementLayout =
+                    GraphLayout.parseInstance(contentList.toArray());
+
+            if (!first) {
+                System.out.println(
+                        "| ------------------------- " +
+                        "| ---------- | -------------- " +
+                        "| ---------- | ---------- |");
+            }
+
+            first = false;
+
+            for (String implementation : ListImplementations.getNames()) {
+                List<Integer> list = 
+                        ListImplementations.getFactory(implementation, size)
+                                           .get();
+
+                for (Integer i : contentList) {
+                    list.add(i);
+                }
+
+                GraphLayout listLayout = GraphLayout.parseInstance(list);
+                long totalBytes = listLayout.totalSize();
+                long structureBytes =
+                        listLayout.subtract(elementLayout).totalSize();
+
+                System.out.printf(
+                        "| %-25s | %-10d | %-14d | %-10.2f | %-10.2f |\n",
+                        implementation,
+                        size,
+                        totalBytes,
+                        (double) totalBytes / size,
+                        (double) structureBytes / size);
+            }
+        }
+    }
+
+    private static Set<Integer> toSet(int[] sizes) {
+        Set<Integer> set = new TreeSet<>();
+
+        for (int size : sizes) {
+            set.add(size);
+        }
+
+        return set;
+    }
+}
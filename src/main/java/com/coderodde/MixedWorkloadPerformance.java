@@ -0,0 +1,179 @@
+package com.coderodde;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A YCSB-style mixed workload: each invocation performs one list operation
+ * at a random position, chosen according to the weights of the {@code mix}
+ * parameter, and the score is the throughput in operations per second.
+ * <p>
+ * A mix lists {@code operation=weight} pairs separated by commas or, to pass
+ * it with {@code -p mix=...} on the command line where commas separate
+ * parameter values, by colons. The operations are {@code get}, {@code set},
+ * {@code add} (at an index), {@code remove} (at an index) and
+ * {@code iterate}, which walks {@value #ITERATE_LENGTH} elements from a
+ * random position. The list is rebuilt with {@code size} elements before every
+ * iteration, so unbalanced mixes drift only within one iteration.
+ */
+@State(Scope.Thread)
+public class MixedWorkloadPerformance {
+
+    private static final int ITERATE_LENGTH = 100;
+
+    private static final long seed = System.currentTimeMillis();
+
+    private enum Operation {
+        GET,
+        SET,
+        ADD,
+        REMOVE,
+        ITERATE
+    }
+
+    //// State mixed ///////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class MixedState
+            extends IndexedLinkedListPerformance.ListState {
+
+        @Param({"get=70,add=15,remove=15",
+                "get=90,set=10",
+                "get=50,add=25,remove=25",
+                "get=40,iterate=20,add=20,remove=20"})
+        public String mix;
+
+        public List<Integer> list;
+        public Random random;
+
+        private Operation[] operations;
+        private int[] cumulativeWeights;
+
+        @Override
+        protected void populate() {
+            String[] entries = mix.split("[,:]");
+            operations = new Operation[entries.length];
+            cumulativeWeights = new int[entries.length];
+            int totalWeight = 0;
+
+            for (int i = 0; i < entries.length; ++i) {
+                String[] entry = entries[i].trim().split("=");
+
+                if (entry.length != 2) {
+                    throw new IllegalArgumentException(
+                            "Bad operation mix entry '" + entries[i] +
+                            "' in " + mix);
+                }
+
+                int weight = Integer.parseInt(entry[1].trim());
+
+                if (weight < 0) {
+                    throw new IllegalArgumentException(
+                            "Negative weight in operation mix " + mix);
+                }
+
+                operations[i] = Operation.valueOf(
+                        entry[0].trim().toUpperCase());
+                totalWeight += weight;
+                cumulativeWeights[i] = totalWeight;
+            }
+
+            if (totalWeight == 0) {
+                throw new IllegalArgumentException(
+                        "The operation mix has no weight: " + mix);
+            }
+
+            random = new Random(seed);
+        }
+
+        @Setup(Level.Iteration)
+        public void rebuildList() {
+            list = factory.get();
+
+            for (int i = 0; i < size; ++i) {
+                list.add(i);
+            }
+        }
+
+        Operation nextOperation() {
+            int value = random.nextInt(
+                    cumulativeWeights[cumulativeWeights.length - 1]);
+            int i = 0;
+
+            while (value >= cumulativeWeights[i]) {
+                ++i;
+            }
+
+            return operations[i];
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileMixed //////////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    public void profileMixed(MixedState state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        Random random = state.random;
+        Operation operation = state.nextOperation();
+
+        if (list.isEmpty() && operation != Operation.ADD) {
+            // Nothing to read or remove; keep the list alive instead:
+            operation = Operation.ADD;
+        }
+
+        switch (operation) {
+            case GET:
+                blackhole.consume(list.get(random.nextInt(list.size())));
+                break;
+
+            case SET:
+                blackhole.consume(list.set(random.nextInt(list.size()),
+                                           random.nextInt()));
+                break;
+
+            case ADD:
+                list.add(random.nextInt(list.size() + 1), random.nextInt());
+                break;
+
+            case REMOVE:
+                blackhole.consume(list.remove(random.nextInt(list.size())));
+                break;
+
+            case ITERATE:
+                profileIterate(list, random, blackhole);
+                break;
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    private static void profileIterate(List<Integer> list,
+                                       Random random,
+                                       Blackhole blackhole) {
+        ListIterator<Integer> iterator =
+                list.listIterator(random.nextInt(list.size()));
+
+        for (int i = 0; i < ITERATE_LENGTH && iterator.hasNext(); ++i) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
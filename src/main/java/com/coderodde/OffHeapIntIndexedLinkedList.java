@@ -0,0 +1,86 @@
+package com.coderodde;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An {@link AbstractIntIndexedLinkedList} keeping its node slots off the
+ * heap in a direct {@link ByteBuffer}. Each slot is a fixed-width record of
+ * the value followed by the successor and the predecessor links, so the
+ * garbage collector sees a single buffer object regardless of the list size.
+ * Only the finger index, {@code O(sqrt(size))} integers, stays on the heap.
+ */
+public final class OffHeapIntIndexedLinkedList
+        extends AbstractIntIndexedLinkedList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final int VALUE_OFFSET = 0;
+    private static final int NEXT_OFFSET  = Integer.BYTES;
+    private static final int PREV_OFFSET  = 2 * Integer.BYTES;
+    private static final int NODE_BYTES   = 3 * Integer.BYTES;
+
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE / NODE_BYTES;
+
+    private ByteBuffer nodes = allocate(DEFAULT_CAPACITY);
+
+    @Override
+    protected int getValue(int node) {
+        return nodes.getInt(node * NODE_BYTES + VALUE_OFFSET);
+    }
+
+    @Override
+    protected void setValue(int node, int value) {
+        nodes.putInt(node * NODE_BYTES + VALUE_OFFSET, value);
+    }
+
+    @Override
+    protected int getNext(int node) {
+        return nodes.getInt(node * NODE_BYTES + NEXT_OFFSET);
+    }
+
+    @Override
+    protected void setNext(int node, int next) {
+        nodes.putInt(node * NODE_BYTES + NEXT_OFFSET, next);
+    }
+
+    @Override
+    protected int getPrev(int node) {
+        return nodes.getInt(node * NODE_BYTES + PREV_OFFSET);
+    }
+
+    @Override
+    protected void setPrev(int node, int prev) {
+        nodes.putInt(node * NODE_BYTES + PREV_OFFSET, prev);
+    }
+
+    @Override
+    protected int getCapacity() {
+        return nodes.capacity() / NODE_BYTES;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        int currentCapacity = getCapacity();
+
+        if (currentCapacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException(
+                    "The off-heap list cannot hold more than "
+                            + MAXIMUM_CAPACITY
+                            + " values.");
+        }
+
+        if (capacity < 0 || capacity > MAXIMUM_CAPACITY) {
+            capacity = MAXIMUM_CAPACITY;
+        }
+
+        ByteBuffer grownNodes = allocate(capacity);
+        grownNodes.put(0, nodes, 0, currentCapacity * NODE_BYTES);
+        nodes = grownNodes;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * NODE_BYTES)
+                         .order(ByteOrder.nativeOrder());
+    }
+}
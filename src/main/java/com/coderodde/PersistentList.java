@@ -0,0 +1,405 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list sharing structure between its versions, in the style of
+ * a relaxed radix balanced (RRB) vector: a tree of fan-out
+ * {@value #BRANCHING} whose leaves hold the elements and whose branch nodes
+ * keep the cumulative sizes of their children. {@link #with(int, Object)},
+ * {@link #insert(int, Object)}, {@link #without(int)} and
+ * {@link #append(Object)} copy only the nodes on the path to the changed
+ * position and return a new list in {@code O(log n)} time; the old list stays
+ * valid. Taking a snapshot therefore costs nothing: the list itself is the
+ * snapshot.
+ * <p>
+ * Every node keeps a size table, so the tree never needs the strict radix
+ * layout and an index is found by searching the tables. A node with fewer
+ * than half of {@value #BRANCHING} entries is merged with, or refilled from, a
+ * sibling, keeping all leaves on the same depth. The mutators of
+ * {@link java.util.List} throw {@link UnsupportedOperationException}.
+ *
+ * @param <E> the element type.
+ */
+public final class PersistentList<E> extends AbstractList<E>
+        implements RandomAccess {
+
+    private static final int BRANCHING = 32;
+    private static final int MINIMUM_COUNT = BRANCHING / 2;
+
+    private static final Object[] NO_ELEMENTS = new Object[0];
+
+    private static final PersistentList<?> EMPTY =
+            new PersistentList<>(new Node(NO_ELEMENTS));
+
+    /**
+     * An immutable tree node: a leaf holding elements, or a branch holding
+     * children and their cumulative sizes.
+     */
+    private static final class Node {
+        final Object[] elements;
+        final Node[] children;
+        final int[] sizes;
+
+        Node(Object[] elements) {
+            this.elements = elements;
+            this.children = null;
+            this.sizes = null;
+        }
+
+        Node(Node[] children) {
+            this.elements = null;
+            this.children = children;
+            this.sizes = new int[children.length];
+
+            int size = 0;
+
+            for (int i = 0; i < children.length; ++i) {
+                size += children[i].size();
+                sizes[i] = size;
+            }
+        }
+
+        Node(Node[] children, int[] sizes) {
+            this.elements = null;
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+
+        int count() {
+            return isLeaf() ? elements.length : children.length;
+        }
+
+        int size() {
+            return isLeaf() ? elements.length : sizes[sizes.length - 1];
+        }
+
+        /**
+         * Returns the child holding {@code index}, which is an element index
+         * relative to this branch.
+         */
+        int childAt(int index) {
+            int i = 0;
+
+            while (index >= sizes[i]) {
+                ++i;
+            }
+
+            return i;
+        }
+
+        int childStart(int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+    }
+
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <E> the element type.
+     * @return the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code collection} in iteration
+     * order, built bottom-up in linear time.
+     *
+     * @param <E>        the element type.
+     * @param collection the elements.
+     * @return the new list.
+     */
+    public static <E> PersistentList<E> copyOf(
+            Collection<? extends E> collection) {
+        Object[] elements = collection.toArray();
+
+        if (elements.length == 0) {
+            return empty();
+        }
+
+        Node[] level = new Node[(elements.length + BRANCHING - 1) / BRANCHING];
+
+        for (int i = 0; i < level.length; ++i) {
+            int from = i * BRANCHING;
+            int to = Math.min(from + BRANCHING, elements.length);
+            level[i] = new Node(Arrays.copyOfRange(elements, from, to));
+        }
+
+        while (level.length > 1) {
+            Node[] parents =
+                    new Node[(level.length + BRANCHING - 1) / BRANCHING];
+
+            for (int i = 0; i < parents.length; ++i) {
+                int from = i * BRANCHING;
+                int to = Math.min(from + BRANCHING, level.length);
+                parents[i] = new Node(Arrays.copyOfRange(level, from, to));
+            }
+
+            level = parents;
+        }
+
+        return new PersistentList<>(level[0]);
+    }
+
+    @Override
+    public int size() {
+        return root.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, root.size());
+        Node node = root;
+
+        while (!node.isLeaf()) {
+            int child = node.childAt(index);
+            index -= node.childStart(child);
+            node = node.children[child];
+        }
+
+        return (E) node.elements[index];
+    }
+
+    /**
+     * Returns a list equal to this one, except that {@code element} is at
+     * {@code index}.
+     *
+     * @param index   the index of the element to replace.
+     * @param element the new element.
+     * @return the new list.
+     */
+    public PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, root.size());
+        return new PersistentList<>(with(root, index, element));
+    }
+
+    /**
+     * Returns a list equal to this one with {@code element} inserted at
+     * {@code index}.
+     *
+     * @param index   the index to insert at.
+     * @param element the element to insert.
+     * @return the new list.
+     */
+    public PersistentList<E> insert(int index, E element) {
+        Objects.checkIndex(index, root.size() + 1);
+        Node[] nodes = insert(root, index, element, index == root.size());
+        return new PersistentList<>(nodes.length == 1
+                ? nodes[0]
+                : new Node(nodes));
+    }
+
+    /**
+     * Returns a list equal to this one with {@code element} appended.
+     *
+     * @param element the element to append.
+     * @return the new list.
+     */
+    public PersistentList<E> append(E element) {
+        return insert(root.size(), element);
+    }
+
+    /**
+     * Returns a list equal to this one without the element at
+     * {@code index}.
+     *
+     * @param index the index of the element to remove.
+     * @return the new list.
+     */
+    public PersistentList<E> without(int index) {
+        Objects.checkIndex(index, root.size());
+        Node node = without(root, index);
+
+        while (!node.isLeaf() && node.count() == 1) {
+            node = node.children[0];
+        }
+
+        return new PersistentList<>(node);
+    }
+
+    private static Node with(Node node, int index, Object element) {
+        if (node.isLeaf()) {
+            Object[] elements = node.elements.clone();
+            elements[index] = element;
+            return new Node(elements);
+        }
+
+        int child = node.childAt(index);
+        Node[] children = node.children.clone();
+        children[child] = with(children[child],
+                               index - node.childStart(child),
+                               element);
+
+        // The sizes do not change, so the table is shared:
+        return new Node(children, node.sizes);
+    }
+
+    /**
+     * Inserts {@code element} at {@code index} of the subtree of
+     * {@code node} and returns the new node, or two nodes if it had to be
+     * split.
+     */
+    private static Node[] insert(Node node,
+                                 int index,
+                                 Object element,
+                                 boolean append) {
+        if (node.isLeaf()) {
+            Object[] elements = insertAt(node.elements, index, element);
+
+            if (elements.length <= BRANCHING) {
+                return new Node[] { new Node(elements) };
+            }
+
+            // Appending keeps the left leaf full:
+            int split = append ? BRANCHING : elements.length / 2;
+            return new Node[] {
+                new Node(Arrays.copyOfRange(elements, 0, split)),
+                new Node(Arrays.copyOfRange(elements, split, elements.length))
+            };
+        }
+
+        int child = 0;
+
+        // An index between two children goes to the end of the left one:
+        while (child < node.count() - 1 && index > node.sizes[child]) {
+            ++child;
+        }
+
+        Node[] replacement = insert(node.children[child],
+                                    index - node.childStart(child),
+                                    element,
+                                    append);
+
+        Node[] children = replace(node.children, child, 1, replacement);
+
+        if (children.length <= BRANCHING) {
+            return new Node[] { new Node(children) };
+        }
+
+        int split = append ? BRANCHING : children.length / 2;
+        return new Node[] {
+            new Node(Arrays.copyOfRange(children, 0, split)),
+            new Node(Arrays.copyOfRange(children, split, children.length))
+        };
+    }
+
+    private static Node without(Node node, int index) {
+        if (node.isLeaf()) {
+            return new Node(removeAt(node.elements, index));
+        }
+
+        int child = node.childAt(index);
+        Node newChild = without(node.children[child],
+                                index - node.childStart(child));
+
+        if (newChild.count() >= MINIMUM_COUNT || node.count() == 1) {
+            Node[] children = node.children.clone();
+            children[child] = newChild;
+            return new Node(children);
+        }
+
+        // Merge the underfull child with a sibling, or even them out:
+        int left = child + 1 < node.count() ? child : child - 1;
+        Node leftChild = left == child ? newChild : node.children[left];
+        Node rightChild = left == child ? node.children[left + 1] : newChild;
+        Node[] rebalanced = rebalance(leftChild, rightChild);
+
+        return new Node(replace(node.children, left, 2, rebalanced));
+    }
+
+    /**
+     * Returns the content of the adjacent nodes {@code left} and
+     * {@code right} as one node if it fits, or as two nodes of even counts.
+     */
+    private static Node[] rebalance(Node left, Node right) {
+        if (left.isLeaf()) {
+            Object[] elements = concat(left.elements, right.elements);
+
+            if (elements.length <= BRANCHING) {
+                return new Node[] { new Node(elements) };
+            }
+
+            int split = elements.length / 2;
+            return new Node[] {
+                new Node(Arrays.copyOfRange(elements, 0, split)),
+                new Node(Arrays.copyOfRange(elements, split, elements.length))
+            };
+        }
+
+        Node[] children = concat(left.children, right.children);
+
+        if (children.length <= BRANCHING) {
+            return new Node[] { new Node(children) };
+        }
+
+        int split = children.length / 2;
+        return new Node[] {
+            new Node(Arrays.copyOfRange(children, 0, split)),
+            new Node(Arrays.copyOfRange(children, split, children.length))
+        };
+    }
+
+    private static Object[] insertAt(Object[] array, int index, Object value) {
+        Object[] result = new Object[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Object[] removeAt(Object[] array, int index) {
+        Object[] result = new Object[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array,
+                         index + 1,
+                         result,
+                         index,
+                         result.length - index);
+        return result;
+    }
+
+    /**
+     * Returns a copy of {@code array} with the {@code length} entries from
+     * {@code index} on replaced by {@code replacement}.
+     */
+    private static Node[] replace(Node[] array,
+                                  int index,
+                                  int length,
+                                  Node[] replacement) {
+        Node[] result =
+                new Node[array.length - length + replacement.length];
+
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(replacement, 0, result, index, replacement.length);
+        System.arraycopy(array,
+                         index + length,
+                         result,
+                         index + replacement.length,
+                         array.length - index - length);
+        return result;
+    }
+
+    private static <T> T[] concat(T[] first, T[] second) {
+        T[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
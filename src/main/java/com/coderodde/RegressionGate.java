@@ -0,0 +1,391 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Compares benchmark results with a baseline in JMH's CSV format and reports
+ * every benchmark that got slower than the baseline by more than a given
+ * fraction. Both scores are widened by their error margins first, so only
+ * regressions that stand out of the confidence intervals are reported.
+ * <p>
+ * Two baseline layouts are understood: the current one, in which the
+ * implementation and the size are {@code Param:} columns, and the legacy one
+ * of the committed {@code results.csv}, in which the implementation is part
+ * of the method name ({@code profileRoddeListGet}) and there is no size.
+ * Rows without a size are compared only with the results of the size they
+ * are declared to be taken at; without such a declaration they are skipped,
+ * since comparing them with every size of the sweep means nothing.
+ */
+public final class RegressionGate {
+
+    private static final String PARAM_COLUMN_PREFIX = "Param: ";
+    private static final String BENCHMARK_COLUMN    = "Benchmark";
+    private static final String MODE_COLUMN         = "Mode";
+    private static final String SCORE_COLUMN        = "Score";
+    private static final String ERROR_COLUMN_PREFIX = "Score Error";
+    private static final String UNIT_COLUMN         = "Unit";
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    /**
+     * Maps the implementation names used in the legacy benchmark method
+     * names to the names registered in {@link ListImplementations}.
+     */
+    private static final Map<String, String> LEGACY_IMPLEMENTATIONS =
+            new LinkedHashMap<>();
+
+    static {
+        LEGACY_IMPLEMENTATIONS.put("RoddeList",      "IndexedLinkedList");
+        LEGACY_IMPLEMENTATIONS.put("JavaLinkedList", "LinkedList");
+        LEGACY_IMPLEMENTATIONS.put("ArrayList",      "ArrayList");
+        LEGACY_IMPLEMENTATIONS.put("LinkedList",     "LinkedList");
+        LEGACY_IMPLEMENTATIONS.put("TreeList",       "TreeList");
+    }
+
+    private final Map<String, List<BaselineEntry>> baseline =
+            new LinkedHashMap<>();
+    private final double threshold;
+
+    /**
+     * The number of baseline rows skipped for lack of a size.
+     */
+    private int unsizedRows;
+
+    /**
+     * Loads the baseline from {@code baselineFile}.
+     *
+     * @param baselineFile the JMH CSV file holding the baseline.
+     * @param threshold    the tolerated slowdown as a fraction, for example
+     *                     {@code 0.1} for 10%.
+     * @param baselineSize the list size the baseline rows without a
+     *                     {@code size} column were taken at, or {@code null}
+     *                     to skip those rows.
+     * @throws IOException if the baseline cannot be read.
+     */
+    public RegressionGate(Path baselineFile,
+                          double threshold,
+                          String baselineSize)
+            throws IOException {
+        if (threshold < 0.0) {
+            throw new IllegalArgumentException(
+                    "The regression threshold must be non-negative: "
+                            + threshold);
+        }
+
+        this.threshold = threshold;
+        loadBaseline(baselineFile, baselineSize);
+    }
+
+    /**
+     * Compares {@code runResults} with the baseline and prints one line per
+     * compared benchmark.
+     *
+     * @param runResults the results of the current run.
+     * @return {@code true} if no benchmark regressed beyond the threshold.
+     */
+    public boolean check(Collection<RunResult> runResults) {
+        int regressions = 0;
+        int comparisons = 0;
+
+        System.out.printf("--- Regression check (threshold %.1f%%):\n",
+                          threshold * 100.0);
+
+        if (unsizedRows > 0) {
+            System.out.printf("--- %d baseline row(s) without a size " +
+                              "skipped; declare their size to compare " +
+                              "them.\n",
+                              unsizedRows);
+        }
+
+        for (RunResult runResult : runResults) {
+            Result result = runResult.getPrimaryResult();
+            String implementation =
+                    runResult.getParams().getParam("implementation");
+            String size = runResult.getParams().getParam("size");
+            String distribution = 
+                    runResult.getParams().getParam("distribution");
+            List<BaselineEntry> entries =
+                    baseline.get(getKey(result.getLabel(), implementation));
+
+            if (entries == null) {
+                continue;
+            }
+
+            for (BaselineEntry entry : entries) {
+                if (!entry.size.equals(size)) {
+                    continue;
+                }
+
+                if (!matchesDistribution(entry.distribution, distribution)) {
+                    continue;
+                }
+
+                if (!entry.unit.equals(result.getScoreUnit())) {
+                    System.out.printf(
+                            "| %-30s | %-25s | %-10s | unit %s differs " +
+                            "from baseline unit %s, skipped |\n",
+                            result.getLabel(),
+                            implementation,
+                            size,
+                            result.getScoreUnit(),
+                            entry.unit);
+                    continue;
+                }
+
+                comparisons++;
+                boolean regressed = isRegression(entry, result);
+
+                if (regressed) {
+                    regressions++;
+                }
+
+                System.out.printf(
+                        "| %-30s | %-25s | %-10s | %12.3f +- %-10.3f " +
+                        "| %12.3f +- %-10.3f | %+8.1f%% | %s |\n",
+                        result.getLabel(),
+                        implementation,
+                        size,
+                        entry.score,
+                        entry.error,
+                        result.getScore(),
+                        getError(result),
+                        (result.getScore() / entry.score - 1.0) * 100.0,
+                        regressed ? "REGRESSION" : "ok");
+            }
+        }
+
+        System.out.printf("--- %d regression(s) in %d comparison(s).\n",
+                          regressions,
+                          comparisons);
+
+        return regressions == 0;
+    }
+
+    /**
+     * Baseline rows without an index distribution were taken before the
+     * distributions existed and therefore match only the uniform runs.
+     */
+    private static boolean matchesDistribution(String baselineDistribution,
+                                               String distribution) {
+        if (baselineDistribution != null) {
+            return baselineDistribution.equals(distribution);
+        }
+
+        return distribution == null
+                || distribution.equals(IndexDistribution.UNIFORM.name());
+    }
+
+    private boolean isRegression(BaselineEntry entry, Result result) {
+        double error = getError(result);
+
+        if (THROUGHPUT_MODE.equals(entry.mode)) {
+            // Higher is better: the best case of the current run must not
+            // fall below the worst case of the baseline:
+            double best = result.getScore() + error;
+            double worst = (entry.score - entry.error) * (1.0 - threshold);
+            return best < worst;
+        }
+
+        // Time per operation, lower is better:
+        double best = result.getScore() - error;
+        double worst = (entry.score + entry.error) * (1.0 + threshold);
+        return best > worst;
+    }
+
+    private static double getError(Result result) {
+        double error = result.getScoreError();
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    private static String getKey(String label, String implementation) {
+        return label + "/" + implementation;
+    }
+
+    private void loadBaseline(Path file, String baselineSize)
+            throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+        if (lines.isEmpty()) {
+            throw new IOException("The baseline file is empty: " + file);
+        }
+
+        List<String> header = parseCsvLine(lines.get(0));
+        int benchmarkColumn = header.indexOf(BENCHMARK_COLUMN);
+        int modeColumn = header.indexOf(MODE_COLUMN);
+        int scoreColumn = header.indexOf(SCORE_COLUMN);
+        int unitColumn = header.indexOf(UNIT_COLUMN);
+        int errorColumn = -1;
+
+        for (int i = 0; i < header.size(); ++i) {
+            if (header.get(i).startsWith(ERROR_COLUMN_PREFIX)) {
+                errorColumn = i;
+            }
+        }
+
+        int implementationColumn =
+                header.indexOf(PARAM_COLUMN_PREFIX + "implementation");
+        int sizeColumn = header.indexOf(PARAM_COLUMN_PREFIX + "size");
+        int distributionColumn =
+                header.indexOf(PARAM_COLUMN_PREFIX + "distribution");
+
+        if (benchmarkColumn < 0
+                || modeColumn < 0
+                || scoreColumn < 0
+                || unitColumn < 0) {
+            throw new IOException(
+                    "Not a JMH CSV result file: " + file);
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> fields = parseCsvLine(line);
+            String benchmark = fields.get(benchmarkColumn);
+            String label = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String implementation =
+                    implementationColumn < 0 ?
+                    "" :
+                    fields.get(implementationColumn);
+
+            if (implementation.isEmpty()) {
+                // Legacy layout: profile<Implementation><Operation>.
+                String[] legacy = parseLegacyLabel(label);
+
+                if (legacy == null) {
+                    continue;
+                }
+
+                label = legacy[0];
+                implementation = legacy[1];
+            }
+
+            String size = getParam(fields, sizeColumn);
+
+            if (size == null) {
+                if (baselineSize == null) {
+                    unsizedRows++;
+                    continue;
+                }
+
+                size = baselineSize;
+            }
+
+            BaselineEntry entry = new BaselineEntry(
+                    size,
+                    getParam(fields, distributionColumn),
+                    fields.get(modeColumn),
+                    parseNumber(fields.get(scoreColumn)),
+                    errorColumn < 0 ?
+                            0.0 :
+                            parseNumber(fields.get(errorColumn)),
+                    fields.get(unitColumn));
+
+            baseline.computeIfAbsent(getKey(label, implementation),
+                                     (key) -> new ArrayList<>())
+                    .add(entry);
+        }
+    }
+
+    private static String getParam(List<String> fields, int column) {
+        // JMH leaves the column empty for benchmarks without the parameter:
+        return column < 0 || fields.get(column).isEmpty() ?
+               null :
+               fields.get(column);
+    }
+
+    private static String[] parseLegacyLabel(String label) {
+        String prefix = "profile";
+
+        if (!label.startsWith(prefix)) {
+            return null;
+        }
+
+        String rest = label.substring(prefix.length());
+
+        for (Map.Entry<String, String> entry
+                : LEGACY_IMPLEMENTATIONS.entrySet()) {
+            if (rest.startsWith(entry.getKey())) {
+                return new String[] {
+                    prefix + rest.substring(entry.getKey().length()),
+                    entry.getValue()
+                };
+            }
+        }
+
+        return null;
+    }
+
+    private static double parseNumber(String field) {
+        if (field.isEmpty() || field.equals("NaN")) {
+            return 0.0;
+        }
+
+        // JMH writes the numbers in the default locale, which may use a
+        // decimal comma:
+        return Double.parseDouble(field.replace(',', '.'));
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); ++i) {
+            char c = line.charAt(i);
+
+            if (c == '"') {
+                if (quoted
+                        && i + 1 < line.length()
+                        && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    ++i;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class BaselineEntry {
+        final String size;
+        final String distribution;
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        BaselineEntry(String size,
+                      String distribution,
+                      String mode,
+                      double score,
+                      double error,
+                      String unit) {
+            this.size = size;
+            this.distribution = distribution;
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+    }
+}
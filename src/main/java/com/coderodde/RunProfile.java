@@ -0,0 +1,73 @@
+package com.coderodde;
+
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * The fork, warmup and measurement settings of a benchmark run. The settings
+ * are applied through the options builder and therefore override the
+ * per-method annotations, so every benchmark and every implementation is run
+ * in exactly the same way.
+ */
+public enum RunProfile {
+
+    /**
+     * A single in-process iteration per benchmark. Fast, but yields no error
+     * estimate and inherits the JIT state of the previous benchmarks.
+     */
+    QUICK(0, 1, 1, 2L),
+
+    /**
+     * Several fresh JVMs with enough warmup for the JIT to settle and enough
+     * measurement iterations for a meaningful 99.9% confidence interval and
+     * outlier detection.
+     */
+    RIGOROUS(5, 5, 10, 1L);
+
+    private final int forks;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationSeconds;
+
+    private RunProfile(int forks,
+                       int warmupIterations,
+                       int measurementIterations,
+                       long iterationSeconds) {
+        this.forks = forks;
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationSeconds = iterationSeconds;
+    }
+
+    /**
+     * Applies this profile to {@code optionsBuilder}.
+     *
+     * @param optionsBuilder the options builder to configure.
+     * @return {@code optionsBuilder} for chaining.
+     */
+    public ChainedOptionsBuilder apply(ChainedOptionsBuilder optionsBuilder) {
+        return optionsBuilder.forks(forks)
+                             .warmupForks(0)
+                             .warmupIterations(warmupIterations)
+                             .warmupTime(TimeValue.seconds(iterationSeconds))
+                             .measurementIterations(measurementIterations)
+                             .measurementTime(
+                                     TimeValue.seconds(iterationSeconds));
+    }
+
+    /**
+     * Returns the profile with the given case-insensitive name.
+     *
+     * @param name the name of the profile.
+     * @return the profile.
+     */
+    public static RunProfile forName(String name) {
+        for (RunProfile profile : values()) {
+            if (profile.name().equalsIgnoreCase(name)) {
+                return profile;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown run profile: " + name);
+    }
+}
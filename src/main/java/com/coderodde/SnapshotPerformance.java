@@ -0,0 +1,236 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures a writer handing snapshots of its list to readers: each invocation
+ * takes one snapshot, reads from it and then applies
+ * {@code mutationsPerSnapshot} positional edits to the live list. A
+ * {@link PersistentList} snapshot is the list itself, while the mutable lists
+ * are copied, as {@code new ArrayList<>(list)} does, so the score shows at
+ * which snapshot rate copying stops paying for the faster mutable edits.
+ */
+@State(Scope.Thread)
+public class SnapshotPerformance {
+
+    private static final long seed = System.currentTimeMillis();
+
+    /**
+     * The live list of the writer and the way it hands out snapshots.
+     */
+    private abstract static class SnapshotWriter {
+
+        abstract List<Integer> snapshot();
+
+        abstract int size();
+
+        abstract void set(int index, Integer element);
+
+        abstract void add(int index, Integer element);
+
+        abstract void remove(int index);
+    }
+
+    private static final class PersistentSnapshotWriter
+            extends SnapshotWriter {
+
+        private PersistentList<Integer> list;
+
+        PersistentSnapshotWriter(List<Integer> content) {
+            list = PersistentList.copyOf(content);
+        }
+
+        @Override
+        List<Integer> snapshot() {
+            return list;
+        }
+
+        @Override
+        int size() {
+            return list.size();
+        }
+
+        @Override
+        void set(int index, Integer element) {
+            list = list.with(index, element);
+        }
+
+        @Override
+        void add(int index, Integer element) {
+            list = list.insert(index, element);
+        }
+
+        @Override
+        void remove(int index) {
+            list = list.without(index);
+        }
+    }
+
+    private static final class CopyingSnapshotWriter extends SnapshotWriter {
+
+        private final Supplier<List<Integer>> factory;
+        private final List<Integer> list;
+
+        CopyingSnapshotWriter(Supplier<List<Integer>> factory,
+                              List<Integer> content) {
+            this.factory = factory;
+            this.list = factory.get();
+            this.list.addAll(content);
+        }
+
+        @Override
+        List<Integer> snapshot() {
+            List<Integer> snapshot = factory.get();
+            snapshot.addAll(list);
+            return snapshot;
+        }
+
+        @Override
+        int size() {
+            return list.size();
+        }
+
+        @Override
+        void set(int index, Integer element) {
+            list.set(index, element);
+        }
+
+        @Override
+        void add(int index, Integer element) {
+            list.add(index, element);
+        }
+
+        @Override
+        void remove(int index) {
+            list.remove(index);
+        }
+    }
+
+    //// State snapshot ////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class SnapshotState {
+
+        /**
+         * {@code PersistentList} shares structure between snapshots; the
+         * other values name the {@link ListImplementations} entry that is
+         * copied per snapshot.
+         */
+        @Param({"PersistentList", "IndexedLinkedList", "ArrayList"})
+        public String implementation;
+
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        public int size;
+
+        /**
+         * The number of positional edits between two snapshots.
+         */
+        @Param({"1", "16", "256"})
+        public int mutationsPerSnapshot;
+
+        SnapshotWriter writer;
+        Random random;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            List<Integer> content = new ArrayList<>(size);
+
+            for (int i = 0; i < size; ++i) {
+                content.add(i);
+            }
+
+            writer = implementation.equals("PersistentList")
+                    ? new PersistentSnapshotWriter(content)
+                    : new CopyingSnapshotWriter(
+                            ListImplementations.getFactory(implementation,
+                                                           size),
+                            content);
+
+            random = new Random(seed);
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileSnapshotAndMutate //////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1)
+    public void profileSnapshotAndMutate(SnapshotState state,
+                                         Blackhole blackhole) {
+        SnapshotWriter writer = state.writer;
+        Random random = state.random;
+        List<Integer> snapshot = writer.snapshot();
+
+        blackhole.consume(snapshot.get(random.nextInt(snapshot.size())));
+
+        for (int i = 0; i < state.mutationsPerSnapshot; ++i) {
+            if (random.nextBoolean()) {
+                int index = random.nextInt(writer.size());
+                writer.set(index, index);
+            } else {
+                // Pair the insertion with a removal to keep the size fixed:
+                int index = random.nextInt(writer.size() + 1);
+                writer.add(index, index);
+                writer.remove(random.nextInt(writer.size()));
+            }
+        }
+
+        blackhole.consume(snapshot);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(SnapshotPerformance.class.getName() + "\\.")
+                .warmupIterations(1)
+                .warmupTime(TimeValue.seconds(2L))
+                .measurementIterations(1)
+                .measurementTime(TimeValue.seconds(2L));
+
+        if (args.length > 0) {
+            optionsBuilder.param("size", args);
+        }
+
+        List<RunResult> runResults =
+                new ArrayList<>(BenchmarkLauncher.run(optionsBuilder.build()));
+
+        System.out.println("--- Snapshot and mutate cycles (us/cycle):");
+
+        for (RunResult runResult : runResults) {
+            Result result = runResult.getPrimaryResult();
+
+            System.out.printf("| %-20s | %-10s | %-6s | %-14.3f |\n",
+                              runResult.getParams()
+                                       .getParam("implementation"),
+                              runResult.getParams().getParam("size"),
+                              runResult.getParams()
+                                       .getParam("mutationsPerSnapshot"),
+                              result.getScore());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.coderodde;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures single list operations on a list that stays at {@code size}
+ * elements: every insertion is paired with a removal in the same invocation,
+ * so neither list growth nor the batch size enters the score. The scores are
+ * per list operation ({@link OperationsPerInvocation}) in operations per
+ * second; {@link #main(String[])} also prints the equivalent nanoseconds per
+ * operation.
+ */
+@State(Scope.Thread)
+public class SteadyStatePerformance {
+
+    private static final double NANOSECONDS_PER_SECOND = 1e9;
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State steady //////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class SteadyState
+            extends IndexedLinkedListPerformance.ListState {
+
+        public List<Integer> list;
+        public Random random;
+
+        @Override
+        protected void populate() {
+            list = factory.get();
+            random = new Random(seed);
+
+            for (int i = 0; i < size; ++i) {
+                list.add(i);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileAddAtIndexRemoveAtIndex ////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @OperationsPerInvocation(2)
+    public Integer profileAddAtIndexRemoveAtIndex(SteadyState state) {
+        List<Integer> list = state.list;
+        int index = state.random.nextInt(list.size() + 1);
+        list.add(index, index);
+        return list.remove(state.random.nextInt(list.size()));
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileAddFirstRemoveLast /////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @OperationsPerInvocation(2)
+    public Integer profileAddFirstRemoveLast(SteadyState state) {
+        List<Integer> list = state.list;
+        list.add(0, list.size());
+        return list.remove(list.size() - 1);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileAddLastRemoveFirst /////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @OperationsPerInvocation(2)
+    public Integer profileAddLastRemoveFirst(SteadyState state) {
+        List<Integer> list = state.list;
+        list.add(list.size());
+        return list.remove(0);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileGetSetAtIndex //////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Fork(value = 1)
+    @OperationsPerInvocation(2)
+    public void profileGetSetAtIndex(SteadyState state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        int index = state.random.nextInt(list.size());
+        blackhole.consume(list.get(index));
+        blackhole.consume(list.set(state.random.nextInt(list.size()), index));
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    public static void main(String[] args) throws Exception {
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .include(SteadyStatePerformance.class.getName() + "\\.")
+                .warmupIterations(1)
+                .warmupTime(TimeValue.seconds(2L))
+                .measurementIterations(1)
+                .measurementTime(TimeValue.seconds(2L));
+
+        if (args.length > 0) {
+            optionsBuilder.param("size", args);
+        }
+
+        List<RunResult> runResults =
+                new ArrayList<>(BenchmarkLauncher.run(optionsBuilder.build()));
+
+        System.out.println("--- Steady-state throughput (ops/s, ns/op):");
+
+        for (RunResult runResult : runResults) {
+            Result result = runResult.getPrimaryResult();
+
+            System.out.printf("| %-30s | %-25s | %-10s | %-14.1f | %-10.2f |\n",
+                              result.getLabel(),
+                              runResult.getParams()
+                                       .getParam("implementation"),
+                              runResult.getParams().getParam("size"),
+                              result.getScore(),
+                              NANOSECONDS_PER_SECOND / result.getScore());
+        }
+    }
+}
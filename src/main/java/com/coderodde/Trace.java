@@ -0,0 +1,82 @@
+package com.coderodde;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The binary list operation trace format written by {@link TraceRecordingList}
+ * and replayed by {@link TracePerformance}. A trace is a big-endian header of
+ * {@link #MAGIC} and {@link #VERSION}, followed by one record per operation:
+ * a one-byte operation code and zero, one or two {@code int} arguments as
+ * listed below. Element values are stored as {@code int}s.
+ *
+ * <pre>
+ *   ADD_LAST      value
+ *   ADD_AT        index value
+ *   GET           index
+ *   SET           index value
+ *   REMOVE_AT     index
+ *   REMOVE_OBJECT value
+ *   INDEX_OF      value
+ *   CLEAR
+ * </pre>
+ */
+public final class Trace {
+
+    /**
+     * "ILLT" in ASCII.
+     */
+    public static final int MAGIC   = 0x494C4C54;
+    public static final int VERSION = 1;
+
+    public static final byte ADD_LAST      = 1;
+    public static final byte ADD_AT        = 2;
+    public static final byte GET           = 3;
+    public static final byte SET           = 4;
+    public static final byte REMOVE_AT     = 5;
+    public static final byte REMOVE_OBJECT = 6;
+    public static final byte INDEX_OF      = 7;
+    public static final byte CLEAR         = 8;
+
+    private Trace() {
+    }
+
+    /**
+     * Maps the trace file {@code path} into memory and loads it into physical
+     * memory, so that replaying it does not touch the disk. The returned
+     * buffer is positioned at the first record.
+     *
+     * @param path the trace file.
+     * @return the mapped trace.
+     * @throws IOException if the file cannot be mapped or is not a trace.
+     */
+    public static MappedByteBuffer map(Path path) throws IOException {
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.READ)) {
+            // A single mapping is limited to 2 GiB:
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                                 0L,
+                                 channel.size());
+        }
+
+        if (buffer.remaining() < 2 * Integer.BYTES
+                || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a list operation trace: " + path);
+        }
+
+        int version = buffer.getInt();
+
+        if (version != VERSION) {
+            throw new IOException(
+                    "Unsupported trace version " + version + ": " + path);
+        }
+
+        buffer.load();
+        return buffer;
+    }
+}
@@ -0,0 +1,186 @@
+package com.coderodde;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replays a recorded {@link Trace} against every registered list
+ * implementation. Each invocation streams the whole trace, which is memory
+ * mapped and loaded during the setup, through a fresh list.
+ * <p>
+ * Pass a trace recorded by {@link TraceRecordingList} with
+ * {@code -p trace=<path>}; the {@code size} parameter then only names the
+ * run and should be given a single value. Without a trace file, a synthetic
+ * trace is generated: {@code size} appends followed by
+ * {@code size / 10} mixed positional operations.
+ */
+@State(Scope.Thread)
+public class TracePerformance {
+
+    private static final String SYNTHETIC_TRACE = "synthetic";
+
+    // The percentages of the operations in the synthetic trace; the rest are
+    // set calls:
+    private static final int GET_PERCENTAGE       = 50;
+    private static final int ADD_AT_PERCENTAGE    = 20;
+    private static final int REMOVE_AT_PERCENTAGE = 20;
+    private static final int INDEX_OF_PERCENTAGE  = 1;
+
+    private static final long seed = System.currentTimeMillis();
+
+    //// State trace ///////////////////////////////////////////////////////////
+    @State(Scope.Benchmark)
+    public static class TraceState
+            extends IndexedLinkedListPerformance.ListState {
+
+        /**
+         * The path of the trace file to replay, or {@code synthetic}.
+         */
+        @Param({SYNTHETIC_TRACE})
+        public String trace;
+
+        public ByteBuffer buffer;
+
+        @Override
+        protected void populate() {
+            try {
+                if (trace.equals(SYNTHETIC_TRACE)) {
+                    Path path = Files.createTempFile("synthetic", ".trace");
+                    path.toFile().deleteOnExit();
+                    writeSyntheticTrace(path, size);
+                    buffer = Trace.map(path);
+                } else {
+                    buffer = Trace.map(Paths.get(trace));
+                }
+            } catch (IOException ex) {
+                throw new IllegalStateException(
+                        "Cannot map the trace " + trace, ex);
+            }
+        }
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+
+    //// profileReplay /////////////////////////////////////////////////////////
+    @Benchmark
+    @Warmup(iterations = 1, time = 2, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1)
+    public void profileReplay(TraceState state, Blackhole blackhole) {
+        // The duplicate shares the mapped content but has its own position:
+        replay(state.buffer.duplicate(), state.factory.get(), blackhole);
+    }
+    ////////////////////////////////////////////////////////////////////////////
+
+    private static void replay(ByteBuffer buffer,
+                               List<Integer> list,
+                               Blackhole blackhole) {
+        while (buffer.hasRemaining()) {
+            byte operation = buffer.get();
+
+            switch (operation) {
+                case Trace.ADD_LAST:
+                    list.add(buffer.getInt());
+                    break;
+
+                case Trace.ADD_AT: {
+                    int index = buffer.getInt();
+                    list.add(index, buffer.getInt());
+                    break;
+                }
+
+                case Trace.GET:
+                    blackhole.consume(list.get(buffer.getInt()));
+                    break;
+
+                case Trace.SET: {
+                    int index = buffer.getInt();
+                    blackhole.consume(list.set(index, buffer.getInt()));
+                    break;
+                }
+
+                case Trace.REMOVE_AT:
+                    blackhole.consume(list.remove(buffer.getInt()));
+                    break;
+
+                case Trace.REMOVE_OBJECT:
+                    blackhole.consume(list.remove((Integer) buffer.getInt()));
+                    break;
+
+                case Trace.INDEX_OF:
+                    blackhole.consume(list.indexOf(buffer.getInt()));
+                    break;
+
+                case Trace.CLEAR:
+                    list.clear();
+                    break;
+
+                default:
+                    throw new IllegalStateException(
+                            "Unknown trace operation " + operation +
+                            " at offset " + (buffer.position() - 1));
+            }
+        }
+    }
+
+    private static void writeSyntheticTrace(Path path, int size)
+            throws IOException {
+        Random random = new Random(seed);
+
+        try (TraceRecordingList<Integer> list =
+                new TraceRecordingList<>(new ArrayList<>(size),
+                                         new FileOutputStream(path.toFile()),
+                                         Integer::intValue)) {
+            for (int i = 0; i < size; ++i) {
+                list.add(i);
+            }
+
+            int operations = IndexedLinkedListPerformance.getOperations(size);
+
+            for (int i = 0; i < operations; ++i) {
+                int percentage = random.nextInt(100);
+
+                if (list.isEmpty()) {
+                    list.add(i);
+                } else if (percentage < GET_PERCENTAGE) {
+                    list.get(random.nextInt(list.size()));
+                } else if (percentage < GET_PERCENTAGE 
+                                      + ADD_AT_PERCENTAGE) {
+                    list.add(random.nextInt(list.size() + 1), i);
+                } else if (percentage < GET_PERCENTAGE 
+                                      + ADD_AT_PERCENTAGE 
+                                      + REMOVE_AT_PERCENTAGE) {
+                    list.remove(random.nextInt(list.size()));
+                } else if (percentage < GET_PERCENTAGE 
+                                      + ADD_AT_PERCENTAGE 
+                                      + REMOVE_AT_PERCENTAGE 
+                                      + INDEX_OF_PERCENTAGE) {
+                    list.indexOf(random.nextInt(size));
+                } else {
+                    list.set(random.nextInt(list.size()), i);
+                }
+            }
+        }
+    }
+}
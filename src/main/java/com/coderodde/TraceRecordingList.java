@@ -0,0 +1,161 @@
+package com.coderodde;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link List} decorator that writes every operation it forwards to the
+ * decorated list into a {@link Trace}, so that the access pattern of a live
+ * application can be replayed against other list implementations by
+ * {@link TracePerformance}. Element values are recorded through a
+ * {@code ToIntFunction}, by default {@link Objects#hashCode(Object)}.
+ * <p>
+ * Operations not overridden here, such as iteration and bulk operations,
+ * are recorded as the positional operations {@link AbstractList} implements
+ * them with. Like the decorated list, this list is not thread-safe. Close it
+ * to flush the trace.
+ *
+ * @param <E> the element type.
+ */
+public final class TraceRecordingList<E> extends AbstractList<E>
+        implements Closeable {
+
+    private final List<E> list;
+    private final DataOutputStream output;
+    private final ToIntFunction<? super E> valueFunction;
+
+    /**
+     * Records the operations on {@code list} into {@code output}, recording
+     * element values by their hash codes.
+     *
+     * @param list   the decorated list.
+     * @param output the stream to write the trace to.
+     */
+    public TraceRecordingList(List<E> list, OutputStream output) {
+        this(list, output, Objects::hashCode);
+    }
+
+    /**
+     * Records the operations on {@code list} into {@code output}.
+     *
+     * @param list          the decorated list.
+     * @param output        the stream to write the trace to.
+     * @param valueFunction maps the elements to the recorded values.
+     */
+    public TraceRecordingList(List<E> list,
+                              OutputStream output,
+                              ToIntFunction<? super E> valueFunction) {
+        this.list = Objects.requireNonNull(list, "list");
+        this.output = new DataOutputStream(new BufferedOutputStream(
+                Objects.requireNonNull(output, "output")));
+        this.valueFunction =
+                Objects.requireNonNull(valueFunction, "valueFunction");
+
+        try {
+            this.output.writeInt(Trace.MAGIC);
+            this.output.writeInt(Trace.VERSION);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public E get(int index) {
+        record(Trace.GET, index);
+        return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        record(Trace.SET, index, valueFunction.applyAsInt(element));
+        return list.set(index, element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        record(Trace.ADD_LAST, valueFunction.applyAsInt(element));
+        return list.add(element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        record(Trace.ADD_AT, index, valueFunction.applyAsInt(element));
+        list.add(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        record(Trace.REMOVE_AT, index);
+        return list.remove(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object o) {
+        record(Trace.REMOVE_OBJECT, valueFunction.applyAsInt((E) o));
+        return list.remove(o);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int indexOf(Object o) {
+        record(Trace.INDEX_OF, valueFunction.applyAsInt((E) o));
+        return list.indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        record(Trace.CLEAR);
+        list.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private void record(byte operation) {
+        try {
+            output.writeByte(operation);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void record(byte operation, int argument) {
+        try {
+            output.writeByte(operation);
+            output.writeInt(argument);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void record(byte operation, int argument1, int argument2) {
+        try {
+            output.writeByte(operation);
+            output.writeInt(argument1);
+            output.writeInt(argument2);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,760 @@
+package com.coderodde;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An unrolled doubly-linked list: every node (chunk) holds up to
+ * {@code chunkCapacity} elements in an array, so a traversal touches one node
+ * per chunk instead of one per element. Appending fills the tail chunk; an
+ * insertion into a full chunk splits it in halves, and a removal merges the
+ * chunk with its successor once both fit in half a chunk.
+ * <p>
+ * Positional access uses a finger index over the chunks, like
+ * {@link AbstractIntIndexedLinkedList} does over the nodes: about
+ * {@code sqrt(chunks)} chunks with known start indices, sorted by index. An
+ * access walks from the closest of the head, the tail and the fingers.
+ * Element insertions and removals shift the start indices of the fingers
+ * behind them; the fingers are redistributed evenly once more than
+ * {@code sqrt(chunks)} chunks have been created or unlinked since the
+ * previous redistribution.
+ *
+ * @param <E> the element type.
+ */
+public final class UnrolledLinkedList<E> extends AbstractList<E> {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    private static final int MINIMUM_CHUNK_CAPACITY = 4;
+
+    private static final class Chunk {
+        final Object[] elements;
+        int size;
+        Chunk prev;
+        Chunk next;
+
+        Chunk(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
+
+    private final int chunkCapacity;
+
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    private int chunkCount;
+
+    private Chunk[] fingerChunks  = new Chunk[0];
+    private int[]   fingerIndices = new int[0];
+    private int fingerCount;
+
+    /**
+     * The number of chunks created or unlinked since the last redistribution
+     * of the fingers.
+     */
+    private int modifications;
+
+    /**
+     * The start index of the chunk returned by the last call to
+     * {@link #locate(int)}.
+     */
+    private int locatedStart;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list whose chunks hold {@code chunkCapacity} elements.
+     *
+     * @param chunkCapacity the number of elements per chunk.
+     */
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < MINIMUM_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException(
+                    "Chunk capacity " + chunkCapacity + " is below " +
+                    MINIMUM_CHUNK_CAPACITY);
+        }
+
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = locate(index);
+        return elementAt(chunk, index - locatedStart);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = locate(index);
+        int offset = index - locatedStart;
+        E oldElement = elementAt(chunk, offset);
+        chunk.elements[offset] = element;
+        return oldElement;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (tail == null || tail.size == chunkCapacity) {
+            linkAfter(new Chunk(chunkCapacity), tail);
+        }
+
+        tail.elements[tail.size++] = element;
+        ++size;
+        ++modCount;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        Chunk chunk = locate(index);
+        insert(chunk, locatedStart, index - locatedStart, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        Chunk chunk = locate(index);
+        return removeAt(chunk, locatedStart, index - locatedStart);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int start = 0;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; ++i) {
+                if (Objects.equals(o, chunk.elements[i])) {
+                    removeAt(chunk, start, i);
+                    return true;
+                }
+            }
+
+            start += chunk.size;
+        }
+
+        return false;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int start = 0;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; ++i) {
+                if (Objects.equals(o, chunk.elements[i])) {
+                    return start + i;
+                }
+            }
+
+            start += chunk.size;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        chunkCount = 0;
+        fingerChunks = new Chunk[0];
+        fingerIndices = new int[0];
+        fingerCount = 0;
+        modifications = 0;
+        ++modCount;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new ChunkIterator(index);
+    }
+
+    /**
+     * Removes the matching elements in one pass that packs the survivors
+     * into full chunks.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter, "filter");
+        int expectedModCount = modCount;
+        BitSet removed = new BitSet(size);
+        int index = 0;
+
+        // Test all elements first, so a throwing filter leaves the list
+        // intact:
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; ++i, ++index) {
+                if (filter.test(elementAt(chunk, i))) {
+                    removed.set(index);
+                }
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        if (removed.isEmpty()) {
+            return false;
+        }
+
+        // The packed write position never overtakes the read position, since
+        // no chunk holds more than chunkCapacity elements:
+        Chunk writeChunk = head;
+        int writeOffset = 0;
+        int survivors = 0;
+        index = 0;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.size; ++i, ++index) {
+                if (removed.get(index)) {
+                    continue;
+                }
+
+                if (writeOffset == chunkCapacity) {
+                    writeChunk.size = chunkCapacity;
+                    writeChunk = writeChunk.next;
+                    writeOffset = 0;
+                }
+
+                writeChunk.elements[writeOffset++] = chunk.elements[i];
+                ++survivors;
+            }
+        }
+
+        truncateAfter(writeChunk, writeOffset, survivors);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c, "c");
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c, "c");
+        return removeIf(element -> !c.contains(element));
+    }
+
+    /**
+     * Removes the range chunk by chunk: the chunks inside the range are
+     * unlinked as a whole, and only the two boundary chunks shift elements.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        Chunk chunk = locate(fromIndex);
+        int offset = fromIndex - locatedStart;
+        int remaining = toIndex - fromIndex;
+
+        while (remaining > 0) {
+            Chunk next = chunk.next;
+            int count = Math.min(remaining, chunk.size - offset);
+
+            if (count == chunk.size) {
+                unlink(chunk);
+            } else {
+                System.arraycopy(chunk.elements,
+                                 offset + count,
+                                 chunk.elements,
+                                 offset,
+                                 chunk.size - offset - count);
+                Arrays.fill(chunk.elements,
+                            chunk.size - count,
+                            chunk.size,
+                            null);
+                chunk.size -= count;
+            }
+
+            remaining -= count;
+            offset = 0;
+            chunk = next;
+        }
+
+        size -= toIndex - fromIndex;
+        ++modCount;
+        discardFingers();
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Chunk chunk, int offset) {
+        return (E) chunk.elements[offset];
+    }
+
+    /**
+     * Inserts {@code element} at {@code offset} of {@code chunk}, which
+     * starts at the index {@code start}, splitting the chunk if it is full.
+     */
+    private void insert(Chunk chunk, int start, int offset, E element) {
+        if (chunk.size == chunkCapacity) {
+            int half = chunkCapacity / 2;
+            Chunk split = new Chunk(chunkCapacity);
+            split.size = chunkCapacity - half;
+            System.arraycopy(chunk.elements,
+                             half,
+                             split.elements,
+                             0,
+                             split.size);
+
+            Arrays.fill(chunk.elements, half, chunkCapacity, null);
+            chunk.size = half;
+            linkAfter(split, chunk);
+
+            if (offset > half) {
+                chunk = split;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(chunk.elements,
+                         offset,
+                         chunk.elements,
+                         offset + 1,
+                         chunk.size - offset);
+
+        chunk.elements[offset] = element;
+        ++chunk.size;
+        ++size;
+        ++modCount;
+        shiftFingers(start, 1);
+    }
+
+    /**
+     * Removes the element at {@code offset} of {@code chunk}, which starts at
+     * the index {@code start}. Unlinks the chunk if it becomes empty and
+     * merges its successor into it if both fit in half a chunk.
+     */
+    private E removeAt(Chunk chunk, int start, int offset) {
+        E element = elementAt(chunk, offset);
+
+        System.arraycopy(chunk.elements,
+                         offset + 1,
+                         chunk.elements,
+                         offset,
+                         chunk.size - offset - 1);
+
+        chunk.elements[--chunk.size] = null;
+        --size;
+        ++modCount;
+
+        if (chunk.size == 0) {
+            removeFinger(chunk, start);
+            unlink(chunk);
+        } else if (chunk.next != null
+                && chunk.size + chunk.next.size <= chunkCapacity / 2) {
+            Chunk next = chunk.next;
+
+            // The successor still starts where it did before the removal:
+            removeFinger(next, start + chunk.size + 1);
+            System.arraycopy(next.elements,
+                             0,
+                             chunk.elements,
+                             chunk.size,
+                             next.size);
+
+            chunk.size += next.size;
+            unlink(next);
+        }
+
+        shiftFingers(start, -1);
+        return element;
+    }
+
+    /**
+     * Cuts the list after the first {@code writeOffset} elements of
+     * {@code lastChunk}, leaving {@code newSize} elements.
+     */
+    private void truncateAfter(Chunk lastChunk, int writeOffset, int newSize) {
+        if (newSize == 0) {
+            clear();
+            return;
+        }
+
+        Arrays.fill(lastChunk.elements, writeOffset, chunkCapacity, null);
+        lastChunk.size = writeOffset;
+
+        for (Chunk chunk = lastChunk.next; chunk != null; chunk = chunk.next) {
+            chunk.size = 0;
+        }
+
+        lastChunk.next = null;
+        tail = lastChunk;
+        chunkCount = 0;
+
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next) {
+            ++chunkCount;
+        }
+
+        size = newSize;
+        ++modCount;
+        discardFingers();
+    }
+
+    private void linkAfter(Chunk chunk, Chunk predecessor) {
+        if (predecessor == null) {
+            chunk.next = head;
+
+            if (head == null) {
+                tail = chunk;
+            } else {
+                head.prev = chunk;
+            }
+
+            head = chunk;
+        } else {
+            chunk.prev = predecessor;
+            chunk.next = predecessor.next;
+
+            if (predecessor.next == null) {
+                tail = chunk;
+            } else {
+                predecessor.next.prev = chunk;
+            }
+
+            predecessor.next = chunk;
+        }
+
+        ++chunkCount;
+        ++modifications;
+    }
+
+    /**
+     * Unlinks {@code chunk} and marks it as unlinked by emptying it. The
+     * chunk keeps its own links, so iterators can step off it.
+     */
+    private void unlink(Chunk chunk) {
+        if (chunk.prev == null) {
+            head = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+
+        if (chunk.next == null) {
+            tail = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+
+        chunk.size = 0;
+        --chunkCount;
+        ++modifications;
+    }
+
+    /**
+     * Returns the chunk containing the element at {@code index} and stores
+     * the start index of that chunk in {@link #locatedStart}.
+     */
+    private Chunk locate(int index) {
+        if (modifications > fingerCount) {
+            redistributeFingers();
+        }
+
+        Chunk chunk = head;
+        int start = 0;
+        int distance = index;
+
+        if (size - index < distance) {
+            chunk = tail;
+            start = size - tail.size;
+            distance = size - index;
+        }
+
+        int finger = lastFingerAtOrBefore(index);
+
+        if (finger >= 0 && index - fingerIndices[finger] < distance) {
+            chunk = fingerChunks[finger];
+            start = fingerIndices[finger];
+            distance = index - start;
+        }
+
+        if (finger + 1 < fingerCount
+                && fingerIndices[finger + 1] - index < distance) {
+            chunk = fingerChunks[finger + 1];
+            start = fingerIndices[finger + 1];
+        }
+
+        while (index < start) {
+            chunk = chunk.prev;
+            start -= chunk.size;
+        }
+
+        while (index >= start + chunk.size) {
+            start += chunk.size;
+            chunk = chunk.next;
+        }
+
+        locatedStart = start;
+        return chunk;
+    }
+
+    private int lastFingerAtOrBefore(int index) {
+        int low = 0;
+        int high = fingerCount - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (fingerIndices[middle] <= index) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return high;
+    }
+
+    /**
+     * Adds {@code delta} to the start indices of the fingers of the chunks
+     * behind the chunk starting at {@code start}.
+     */
+    private void shiftFingers(int start, int delta) {
+        for (int i = lastFingerAtOrBefore(start) + 1; i < fingerCount; ++i) {
+            fingerIndices[i] += delta;
+        }
+    }
+
+    private void removeFinger(Chunk chunk, int start) {
+        for (int i = lastFingerAtOrBefore(start);
+                i >= 0 && fingerIndices[i] == start;
+                --i) {
+            if (fingerChunks[i] == chunk) {
+                System.arraycopy(fingerChunks,
+                                 i + 1,
+                                 fingerChunks,
+                                 i,
+                                 fingerCount - i - 1);
+                System.arraycopy(fingerIndices,
+                                 i + 1,
+                                 fingerIndices,
+                                 i,
+                                 fingerCount - i - 1);
+
+                fingerChunks[--fingerCount] = null;
+                return;
+            }
+        }
+    }
+
+    private void redistributeFingers() {
+        int count = (int) Math.sqrt(chunkCount);
+
+        if (fingerChunks.length < count) {
+            fingerChunks = new Chunk[count];
+            fingerIndices = new int[count];
+        } else if (count < fingerCount) {
+            Arrays.fill(fingerChunks, count, fingerCount, null);
+        }
+
+        int step = count == 0 ? 0 : chunkCount / count;
+        int target = step / 2;
+        Chunk chunk = head;
+        int start = 0;
+
+        for (int i = 0, finger = 0; finger < count; ++i) {
+            if (i == target) {
+                fingerChunks[finger] = chunk;
+                fingerIndices[finger] = start;
+                ++finger;
+                target += step;
+            }
+
+            start += chunk.size;
+            chunk = chunk.next;
+        }
+
+        fingerCount = count;
+        modifications = 0;
+    }
+
+    /**
+     * Drops all fingers after a bulk modification; the next positional
+     * access redistributes them.
+     */
+    private void discardFingers() {
+        Arrays.fill(fingerChunks, 0, fingerCount, null);
+        fingerCount = 0;
+        ++modifications;
+    }
+
+    private final class ChunkIterator implements ListIterator<E> {
+
+        /**
+         * A linked chunk starting at {@link #chunkStart}, close to the
+         * iteration position, or {@code null} if not known.
+         */
+        private Chunk chunk;
+        private int chunkStart;
+
+        private int nextIndex;
+        private int lastReturnedIndex = -1;
+        private int expectedModCount = modCount;
+
+        ChunkIterator(int nextIndex) {
+            this.nextIndex = nextIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+
+            if (nextIndex >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E element = seek(nextIndex);
+            lastReturnedIndex = nextIndex++;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (nextIndex == 0) {
+                throw new NoSuchElementException();
+            }
+
+            E element = seek(--nextIndex);
+            lastReturnedIndex = nextIndex;
+            return element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            seek(lastReturnedIndex);
+            removeAt(chunk, chunkStart, lastReturnedIndex - chunkStart);
+
+            if (chunk.size == 0) {
+                chunk = null;
+            }
+
+            nextIndex = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+            seek(lastReturnedIndex);
+            chunk.elements[lastReturnedIndex - chunkStart] = element;
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+
+            if (nextIndex == size) {
+                UnrolledLinkedList.this.add(element);
+            } else {
+                seek(nextIndex);
+                insert(chunk, chunkStart, nextIndex - chunkStart, element);
+            }
+
+            ++nextIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Moves to the chunk containing {@code index} and returns the element
+         * at {@code index}.
+         */
+        private E seek(int index) {
+            if (chunk == null) {
+                chunk = locate(index);
+                chunkStart = locatedStart;
+            } else {
+                while (index < chunkStart) {
+                    chunk = chunk.prev;
+                    chunkStart -= chunk.size;
+                }
+
+                while (index >= chunkStart + chunk.size) {
+                    chunkStart += chunk.size;
+                    chunk = chunk.next;
+                }
+            }
+
+            return elementAt(chunk, index - chunkStart);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}